@@ -0,0 +1,27 @@
+package kruskal;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Runs the JMH benchmarks with the gc profiler always enabled, so that the
+ * allocation rate is reported next to the time of every benchmark.
+ * Accepts the usual JMH command line options, for instance
+ * "MinimumSpanningTree -p vertices=65536 -p edgeMultiplier=5".
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,62 @@
+package kruskal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Cost of the DisjointSets operations over the vertex pairs of the random graphs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DisjointSetsBenchmark {
+
+    /**
+     * Rebuilt before every call, since find compresses the paths it walks:
+     * reusing the sets would only measure trees flattened by earlier calls.
+     * A call walks every edge, which keeps the setup cost out of the measured time.
+     */
+    @State(Scope.Thread)
+    public static class JoinedSets {
+        DisjointSets sets;
+
+        @Setup(Level.Invocation)
+        public void join(RandomGraphState state) {
+            sets = new DisjointSets(state.vertices);
+            for (int edge = 0; edge < state.weights.length; edge++)
+                sets.union(state.vertices1[edge], state.vertices2[edge]);
+        }
+    }
+
+    /**
+     * One union per edge, starting from singletons.
+     */
+    @Benchmark
+    public DisjointSets union(RandomGraphState state) {
+        DisjointSets sets = new DisjointSets(state.vertices);
+        for (int edge = 0; edge < state.weights.length; edge++)
+            sets.union(state.vertices1[edge], state.vertices2[edge]);
+        return sets;
+    }
+
+    /**
+     * Two finds per edge on sets where every edge has already been joined.
+     */
+    @Benchmark
+    public int find(RandomGraphState state, JoinedSets joined) {
+        int roots = 0;
+        for (int edge = 0; edge < state.weights.length; edge++)
+            roots += joined.sets.find(state.vertices1[edge]) ^ joined.sets.find(state.vertices2[edge]);
+        return roots;
+    }
+}
@@ -0,0 +1,66 @@
+package kruskal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Cost of getting edges into a Graph.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GraphBenchmark {
+
+    /**
+     * The Graph(int, int, Random) constructor, random generation included.
+     */
+    @Benchmark
+    public Graph construction(RandomGraphState state) {
+        return new Graph(state.vertices, state.vertices * state.edgeMultiplier, new Random(RandomGraphState.SEED));
+    }
+
+    /**
+     * The same kind of graph drawn by the parallel GraphGenerator.
+     */
+    @Benchmark
+    public Graph generator(RandomGraphState state) {
+        return GraphGenerator.generate(GraphGenerator.Model.TREE_PLUS_EXTRAS,
+                state.vertices, state.vertices * state.edgeMultiplier, RandomGraphState.SEED);
+    }
+
+    /**
+     * One addEdge call per edge on a graph of the right capacity.
+     */
+    @Benchmark
+    public Graph addEdge(RandomGraphState state) {
+        return state.newGraph();
+    }
+
+    /**
+     * One addEdge call per edge on a graph that has to grow.
+     */
+    @Benchmark
+    public Graph addEdgeWithoutCapacity(RandomGraphState state) {
+        Graph graph = new Graph(state.vertices);
+        for (int edge = 0; edge < state.weights.length; edge++)
+            graph.addEdge(state.vertices1[edge], state.vertices2[edge], state.weights[edge]);
+        return graph;
+    }
+
+    /**
+     * One addEdges call with the whole batch, on a graph of the right capacity.
+     */
+    @Benchmark
+    public Graph addEdges(RandomGraphState state) {
+        Graph graph = new Graph(state.vertices, state.weights.length);
+        graph.addEdges(state.vertices1, state.vertices2, state.weights);
+        return graph;
+    }
+}
@@ -0,0 +1,65 @@
+package kruskal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Cost of the full minimum spanning tree computation, with every engine.
+ * Every invocation gets a fresh, unsorted graph, so that sorting is measured too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MinimumSpanningTreeBenchmark {
+
+    @State(Scope.Thread)
+    public static class FreshGraph {
+        Graph graph;
+
+        @Setup(Level.Invocation)
+        public void build(RandomGraphState state) {
+            graph = state.newGraph();
+        }
+    }
+
+    @Benchmark
+    public List<Edge> getMinimumSpanningTree(FreshGraph fresh) {
+        return fresh.graph.getMinimumSpanningTree();
+    }
+
+    @Benchmark
+    public List<Edge> kruskal(FreshGraph fresh) {
+        return Kruskal.minimumSpanningTree(fresh.graph);
+    }
+
+    @Benchmark
+    public List<Edge> lazyKruskal(FreshGraph fresh) {
+        return Kruskal.lazyMinimumSpanningTree(fresh.graph);
+    }
+
+    @Benchmark
+    public List<Edge> filterKruskal(FreshGraph fresh) {
+        return FilterKruskal.minimumSpanningTree(fresh.graph);
+    }
+
+    @Benchmark
+    public List<Edge> boruvka(FreshGraph fresh) {
+        return Boruvka.minimumSpanningTree(fresh.graph);
+    }
+
+    @Benchmark
+    public List<Edge> prim(FreshGraph fresh) {
+        return Prim.minimumSpanningTree(fresh.graph);
+    }
+}
@@ -0,0 +1,65 @@
+package kruskal;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * The random graphs swept by Main: 2048 to 1048576 vertices, with 1 to 5 times
+ * as many edges. The edges are generated once per trial, like the
+ * Graph(int, int, Random) constructor does, and kept in primitive arrays so
+ * that benchmarks can build fresh graphs without paying for the generation.
+ */
+@State(Scope.Benchmark)
+public class RandomGraphState {
+
+    static final long SEED = 1234;
+
+    @Param({"2048", "4096", "8192", "16384", "32768", "65536", "131072", "262144", "524288", "1048576"})
+    int vertices;
+
+    @Param({"1", "2", "3", "4", "5"})
+    int edgeMultiplier;
+
+    int[] vertices1;
+    int[] vertices2;
+    double[] weights;
+
+    @Setup
+    public void generate() {
+        Random r = new Random(SEED);
+        int edges = vertices * edgeMultiplier;
+        int amount = Math.max(0, vertices - 1) + Math.max(0, edges - vertices);
+        vertices1 = new int[amount];
+        vertices2 = new int[amount];
+        weights = new double[amount];
+
+        int edge = 0;
+        for (int vertex = 1; vertex < vertices; vertex++, edge++) {
+            vertices1[edge] = vertex;
+            vertices2[edge] = r.nextInt(vertex);
+            weights[edge] = r.nextDouble();
+        }
+        for (int vertex = vertices; vertex < edges; vertex++, edge++) {
+            vertices1[edge] = r.nextInt(vertices);
+            vertices2[edge] = r.nextInt(vertices);
+            weights[edge] = r.nextDouble();
+        }
+    }
+
+    /**
+     * A new graph holding the generated edges, in generation order.
+     */
+    Graph newGraph() {
+        Graph graph = new Graph(vertices, weights.length);
+        for (int edge = 0; edge < weights.length; edge++)
+            graph.addEdge(vertices1[edge], vertices2[edge], weights[edge]);
+        return graph;
+    }
+}
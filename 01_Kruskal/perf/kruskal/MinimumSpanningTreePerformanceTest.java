@@ -0,0 +1,46 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Fails when the minimum spanning tree of a fixed, seeded random graph takes
+ * longer than kruskal.perf.maxMillis. The median of several runs on fresh
+ * graphs is used, after a few warm up runs.
+ * The threshold is only defined in the perf-regression profile of the pom.
+ */
+public class MinimumSpanningTreePerformanceTest {
+
+    private static final int VERTICES = 1 << 18;
+    private static final int EDGES = VERTICES * 5;
+    private static final long SEED = 1234;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 7;
+
+    @Test
+    public void minimumSpanningTreeShouldNotRegress() throws Exception {
+        Long maxMillis = Long.getLong("kruskal.perf.maxMillis");
+        assertNotNull("kruskal.perf.maxMillis is not set, run mvn -P perf-regression test", maxMillis);
+
+        for (int run = 0; run < WARMUP_RUNS; run++)
+            new Graph(VERTICES, EDGES, new Random(SEED)).getMinimumSpanningTree();
+
+        long[] millis = new long[MEASURED_RUNS];
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            Graph graph = new Graph(VERTICES, EDGES, new Random(SEED));
+            long start = System.nanoTime();
+            graph.getMinimumSpanningTree();
+            millis[run] = (System.nanoTime() - start) / 1000000;
+        }
+        Arrays.sort(millis);
+        long median = millis[MEASURED_RUNS / 2];
+
+        assertTrue("MST of Graph(" + VERTICES + ", " + EDGES + ", Random(" + SEED + ")) took a median of " + median
+                + " ms, more than the allowed " + maxMillis + " ms; runs " + Arrays.toString(millis), median <= maxMillis);
+    }
+}
@@ -0,0 +1,91 @@
+package kruskal;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Compressed sparse row (CSR) adjacency index of an undirected graph.
+ * The neighbours of a vertex v are stored in targets and weights, between
+ * offset(v) (inclusive) and offset(v + 1) (exclusive).
+ * Each edge appears once for each of its vertices; self loops are left out.
+ * The index is kept in arrays, so it holds at most MAX_ENTRIES of those appearances.
+ */
+public class AdjacencyIndex {
+
+    static final int MAX_ENTRIES = Integer.MAX_VALUE - 8;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+
+    /**
+     * Build the index of the edges of a list, in their current order.
+     * @param amountOfVertex The number of vertices of the graph
+     * @param edges The edges of the graph
+     * @throws IllegalArgumentException If the edges that are not loops are more than MAX_ENTRIES / 2.
+     */
+    public AdjacencyIndex(int amountOfVertex, EdgeList edges) {
+        offsets = new int[amountOfVertex + 1];
+        long entries = 0;
+        for (int position = 0; position < edges.size(); position++) {
+            int vertex1 = edges.lowVertex(position), vertex2 = edges.highVertex(position);
+            if (vertex1 == vertex2) continue;
+            offsets[vertex1 + 1]++;
+            offsets[vertex2 + 1]++;
+            entries += 2;
+        }
+        if (entries > MAX_ENTRIES)
+            throw new IllegalArgumentException("edges(" + entries / 2 + "): are more than an adjacency index can hold {0.." + MAX_ENTRIES / 2 + "}");
+        for (int vertex = 0; vertex < amountOfVertex; vertex++)
+            offsets[vertex + 1] += offsets[vertex];
+
+        targets = new int[offsets[amountOfVertex]];
+        weights = new double[offsets[amountOfVertex]];
+        int[] next = new int[amountOfVertex];
+        System.arraycopy(offsets, 0, next, 0, amountOfVertex);
+        for (int position = 0; position < edges.size(); position++) {
+            int vertex1 = edges.lowVertex(position), vertex2 = edges.highVertex(position);
+            if (vertex1 == vertex2) continue;
+            double weight = edges.weight(position);
+            targets[next[vertex1]] = vertex2;
+            weights[next[vertex1]++] = weight;
+            targets[next[vertex2]] = vertex1;
+            weights[next[vertex2]++] = weight;
+        }
+    }
+
+    /**
+     * @return The number of vertices of the graph.
+     */
+    public int amountOfVertex() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return The index of the first neighbour of vertex. offset(amountOfVertex()) is the total size of the index.
+     */
+    public int offset(int vertex) {
+        return offsets[vertex];
+    }
+
+    /**
+     * @return The amount of neighbours of vertex, self loops excluded.
+     */
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * @return The neighbour at the given index.
+     */
+    public int target(int index) {
+        return targets[index];
+    }
+
+    /**
+     * @return The weight of the edge to the neighbour at the given index.
+     */
+    public double weight(int index) {
+        return weights[index];
+    }
+}
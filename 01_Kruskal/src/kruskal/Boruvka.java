@@ -0,0 +1,166 @@
+package kruskal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Implementation of the parallel Boruvka algorithm.
+ * Every round finds in parallel the cheapest edge leaving each component and
+ * joins the components along those edges, dropping the edges that became
+ * internal. Edges are compared like Edge.compareTo, which is a strict order,
+ * so the tree is unique and the same returned by Kruskal.
+ */
+public class Boruvka {
+
+    static final int GRANULARITY = 1 << 13;
+    private static final int NONE = -1;
+
+    private final EdgeList edges;
+    private final ForkJoinPool pool;
+    private final ConcurrentDisjointSets set;
+    private final AtomicIntegerArray cheapest;
+    private final int[] tree;
+    private final AtomicInteger treeSize = new AtomicInteger();
+    private int[] alive;
+    private int amountAlive;
+
+    private Boruvka(Graph graph, ForkJoinPool pool) {
+        int amountOfVertex = graph.amountOfVertex();
+        this.edges = graph.edgeList();
+        this.pool = pool;
+        this.set = new ConcurrentDisjointSets(amountOfVertex);
+        this.cheapest = new AtomicIntegerArray(amountOfVertex);
+        this.tree = new int[Math.max(0, amountOfVertex - 1)];
+        this.alive = new int[edges.size()];
+        for (int position = 0; position < edges.size(); position++)
+            if (edges.lowVertex(position) != edges.highVertex(position))
+                alive[amountAlive++] = position;
+    }
+
+    /**
+     * Returns the minimum spanning tree of a Graph, working on the common ForkJoinPool.
+     * @param graph
+     * @return The list of edges that make the MST of the given graph
+     */
+    public static List<Edge> minimumSpanningTree(Graph graph) {
+        return minimumSpanningTree(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the minimum spanning tree of a Graph, the same returned by Kruskal.minimumSpanningTree.
+     * The edges of the graph are left in their current order.
+     * @param graph
+     * @param pool The pool running the parallel rounds
+     * @return The list of edges that make the MST of the given graph
+     */
+    public static List<Edge> minimumSpanningTree(Graph graph, ForkJoinPool pool) {
+        Boruvka boruvka = new Boruvka(graph, pool);
+        while (boruvka.round()) ;
+        return boruvka.sortedTree();
+    }
+
+    /**
+     * @return False if no component had an outgoing edge, so the forest is complete.
+     */
+    private boolean round() {
+        if (amountAlive == 0)
+            return false;
+
+        parallelFor(cheapest.length(), (from, to) -> {
+            for (int vertex = from; vertex < to; vertex++)
+                cheapest.set(vertex, NONE);
+        });
+
+        parallelFor(amountAlive, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int position = alive[i];
+                int root1 = set.find(edges.lowVertex(position));
+                int root2 = set.find(edges.highVertex(position));
+                if (root1 == root2) {
+                    alive[i] = NONE;
+                } else {
+                    offer(root1, position);
+                    offer(root2, position);
+                }
+            }
+        });
+
+        int treeSizeBefore = treeSize.get();
+        parallelFor(cheapest.length(), (from, to) -> {
+            for (int vertex = from; vertex < to; vertex++) {
+                int position = cheapest.get(vertex);
+                if (position != NONE && set.union(edges.lowVertex(position), edges.highVertex(position)))
+                    tree[treeSize.getAndIncrement()] = position;
+            }
+        });
+
+        int kept = 0;
+        for (int i = 0; i < amountAlive; i++)
+            if (alive[i] != NONE)
+                alive[kept++] = alive[i];
+        amountAlive = kept;
+
+        return treeSize.get() > treeSizeBefore;
+    }
+
+    /**
+     * Make position the cheapest edge of the component of root, if it is lighter than the current one.
+     */
+    private void offer(int root, int position) {
+        while (true) {
+            int current = cheapest.get(root);
+            if (current != NONE && edges.compare(current, position) <= 0)
+                return;
+            if (cheapest.compareAndSet(root, current, position))
+                return;
+        }
+    }
+
+    private List<Edge> sortedTree() {
+        int size = treeSize.get();
+        EdgeSorter.sort(edges, tree, 0, size);
+        List<Edge> minimumSpanningTree = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            minimumSpanningTree.add(edges.edge(tree[i]));
+        return minimumSpanningTree;
+    }
+
+    private void parallelFor(int size, RangeBody body) {
+        pool.invoke(new ParallelFor(body, 0, size));
+    }
+
+    private interface RangeBody {
+        void run(int from, int to);
+    }
+
+    @SuppressWarnings("serial")
+    private static class ParallelFor extends RecursiveAction {
+
+        private final RangeBody body;
+        private final int from;
+        private final int to;
+
+        ParallelFor(RangeBody body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GRANULARITY) {
+                body.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParallelFor(body, from, middle), new ParallelFor(body, middle, to));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package kruskal;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * A single-linkage clustering of the vertices of a graph, as returned by Kruskal.clustering.
+ */
+public class Clustering {
+    private final int[] labels;
+    private final int amountOfClusters;
+    private final double spacing;
+
+    Clustering(int[] labels, int amountOfClusters, double spacing) {
+        this.labels = labels;
+        this.amountOfClusters = amountOfClusters;
+        this.spacing = spacing;
+    }
+
+    /**
+     * @return The amount of clusters
+     */
+    public int amountOfClusters() {
+        return amountOfClusters;
+    }
+
+    /**
+     * The cluster of a vertex, from 0 to amountOfClusters() - 1.
+     * Clusters are numbered in order of their lowest vertex.
+     * @param vertex
+     * @return The label of the cluster the vertex belongs to
+     */
+    public int label(int vertex) {
+        if (vertex < 0 || vertex >= labels.length)
+            throw new IndexOutOfBoundsException("vertex(" + vertex + "): is out of range {0.." + (labels.length - 1) + "}");
+        return labels[vertex];
+    }
+
+    /**
+     * The label of every vertex, indexed by vertex. The array is not copied.
+     * @return
+     */
+    public int[] labels() {
+        return labels;
+    }
+
+    /**
+     * The minimum weight of an edge between two different clusters,
+     * or positive infinity if there is no such edge.
+     * @return
+     */
+    public double spacing() {
+        return spacing;
+    }
+
+    @Override
+    public String toString() {
+        return "Clustering { " + amountOfClusters + " clusters; spacing = " + spacing + " }";
+    }
+}
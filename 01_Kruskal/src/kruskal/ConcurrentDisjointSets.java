@@ -0,0 +1,116 @@
+package kruskal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Lock-free variant of DisjointSets that can be shared between threads.
+ *
+ * Roots are linked with a compare-and-set on an AtomicIntegerArray, so a union
+ * only succeeds if both roots are still roots. Finds never block: path splitting
+ * is done with a compare-and-set that is simply skipped when it loses a race.
+ * Roots are linked by a pseudo-random priority of their index, which keeps the
+ * trees shallow without having to update a rank atomically with the parent.
+ */
+public class ConcurrentDisjointSets {
+
+    private final AtomicIntegerArray parent;
+    private final AtomicInteger amountOfSets;
+
+    /**
+     * Initialize a Disjoint Set data structure with amountOfSets disjoint components.
+     * @param amountOfSets The amount of initial components
+     */
+    public ConcurrentDisjointSets(int amountOfSets) {
+        if (amountOfSets < 0)
+            throw new IllegalArgumentException("amountOfSets(" + amountOfSets + "): must be greater or equal than 0");
+        this.amountOfSets = new AtomicInteger(amountOfSets);
+        parent = new AtomicIntegerArray(amountOfSets);
+        for (int vertex = 0; vertex < amountOfSets; vertex++) {
+            parent.set(vertex, vertex);
+        }
+    }
+
+    /**
+     * @return The amount of connected components
+     */
+    public int amountOfSets() {
+        return amountOfSets.get();
+    }
+
+    /**
+     * Check if vertex1 and vertex2 are connected.
+     * The answer may be outdated if unions are running at the same time.
+     * @param vertex1
+     * @param vertex2
+     * @return True if vertex1 and vertex2 are part of the same component
+     */
+    public boolean areConnected(int vertex1, int vertex2) {
+        while (true) {
+            int root1 = find(vertex1);
+            int root2 = find(vertex2);
+            if (root1 == root2)
+                return true;
+            // root1 is still a root, so the two vertices were disconnected at some point during the call
+            if (parent.get(root1) == root1)
+                return false;
+        }
+    }
+
+    /**
+     * Join the components of vertex1 and vertex2.
+     * @param vertex1
+     * @param vertex2
+     * @return True if this call merged the two components, false if they were already connected.
+     */
+    public boolean union(int vertex1, int vertex2) {
+        while (true) {
+            int root1 = find(vertex1);
+            int root2 = find(vertex2);
+            if (root1 == root2)
+                return false;
+
+            if (hasLowerPriority(root1, root2)) {
+                int root = root1;
+                root1 = root2;
+                root2 = root;
+            }
+            if (parent.compareAndSet(root2, root2, root1)) {
+                amountOfSets.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Find the representative of the component of a vertex.
+     * @param vertex
+     * @return The root of the component that contains vertex
+     */
+    public int find(int vertex) {
+        checkBounds(vertex);
+        int next = parent.get(vertex);
+        while (next != vertex) {
+            int grandParent = parent.get(next);
+            if (grandParent != next)
+                parent.compareAndSet(vertex, next, grandParent);
+            vertex = next;
+            next = grandParent;
+        }
+        return vertex;
+    }
+
+    private static boolean hasLowerPriority(int root1, int root2) {
+        int priority1 = Integer.reverse(root1 * 0x9E3779B9);
+        int priority2 = Integer.reverse(root2 * 0x9E3779B9);
+        return priority1 != priority2 ? priority1 < priority2 : root1 < root2;
+    }
+
+    private void checkBounds(int vertex) {
+        if (vertex < 0 || vertex >= parent.length())
+            throw new IllegalArgumentException("vertex(" + vertex + "): is out of range {0.." + (parent.length() - 1) + "}");
+    }
+}
@@ -0,0 +1,167 @@
+package kruskal;
+
+import java.util.Arrays;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * This class implements the DisjointSet data structure, used to solve the
+ * connected components problem (aka Union-Find).
+ *
+ * Roots are found iteratively with path halving and sets are joined by rank,
+ * so every operation runs in inverse Ackermann amortized time and never allocates.
+ */
+public class DisjointSets {
+
+    private final int[] parent;
+    private final byte[] rank;
+    private int amountOfSets;
+
+
+    /**
+     * Initialize a Disjoint Set data structure with amountOfSets disjoint components.
+     * @param amountOfSets The amount of initial components
+     */
+    public DisjointSets(int amountOfSets) {
+        if (amountOfSets < 0)
+            throw new IllegalArgumentException("amountOfSets(" + amountOfSets + "): must be greater or equal than 0");
+        this.amountOfSets = amountOfSets;
+        parent = new int[amountOfSets];
+        rank = new byte[amountOfSets];
+        for (int vertex = 0; vertex < amountOfSets; vertex++) {
+            parent[vertex] = vertex;
+        }
+    }
+
+    /**
+     * @return The amount of connected components
+     */
+    public int amountOfSets() {
+        return amountOfSets;
+    }
+
+
+    /**
+     * Check if vertex1 and vertex2 are connected.
+     * @param vertex1
+     * @param vertex2
+     * @return True if vertex1 and vertex2 are part of the same component
+     */
+    public boolean areConnected(int vertex1, int vertex2) {
+        return find(vertex1) == find(vertex2);
+    }
+
+    /**
+     * Perform a join operation.
+     * After connectSets is called, unless an exception is thrown,
+     * the two vertices are assured to be connected.
+     * @param vertex1
+     * @param vertex2
+     * @return False if the two vertices were already connected. Otherwise true.
+     */
+    public boolean connectSets(int vertex1, int vertex2) {
+        return union(vertex1, vertex2);
+    }
+
+    /**
+     * Join the components of vertex1 and vertex2, resolving each root only once.
+     * @param vertex1
+     * @param vertex2
+     * @return True if a merge happened, false if the two vertices were already connected.
+     */
+    public boolean union(int vertex1, int vertex2) {
+        int root1 = find(vertex1);
+        int root2 = find(vertex2);
+        if (root1 == root2)
+            return false;
+
+        if (rank[root1] < rank[root2]) {
+            parent[root1] = root2;
+        } else if (rank[root1] > rank[root2]) {
+            parent[root2] = root1;
+        } else {
+            parent[root2] = root1;
+            rank[root1]++;
+        }
+        amountOfSets--;
+        return true;
+    }
+
+    /**
+     * Find the representative of the component of a vertex.
+     * Every visited vertex is re-linked to its grandparent (path halving).
+     * @param vertex
+     * @return The root of the component that contains vertex
+     */
+    public int find(int vertex) {
+        checkBounds(vertex);
+        while (parent[vertex] != vertex) {
+            parent[vertex] = parent[parent[vertex]];
+            vertex = parent[vertex];
+        }
+        return vertex;
+    }
+
+    /**
+     * Find the representative of the component of a vertex without modifying the sets,
+     * so that it can be called from several threads as long as no other operation
+     * runs at the same time.
+     * @param vertex
+     * @return The root of the component that contains vertex
+     */
+    public int findWithoutCompression(int vertex) {
+        checkBounds(vertex);
+        while (parent[vertex] != vertex)
+            vertex = parent[vertex];
+        return vertex;
+    }
+
+    /**
+     * Number the sets from 0 to amountOfSets() - 1, in order of their lowest vertex.
+     * A root gets its label before any other vertex of its set copies it, so only the
+     * returned array is allocated.
+     * @return The label of the set of every vertex, indexed by vertex
+     */
+    public int[] labels() {
+        int[] labels = new int[parent.length];
+        Arrays.fill(labels, -1);
+        int amountOfLabels = 0;
+        for (int vertex = 0; vertex < labels.length; vertex++) {
+            int root = find(vertex);
+            if (labels[root] < 0)
+                labels[root] = amountOfLabels++;
+            labels[vertex] = labels[root];
+        }
+        return labels;
+    }
+
+    /**
+     * The amount of links between a vertex and its root, without compressing the path.
+     */
+    int depth(int vertex) {
+        checkBounds(vertex);
+        int depth = 0;
+        while (parent[vertex] != vertex) {
+            vertex = parent[vertex];
+            depth++;
+        }
+        return depth;
+    }
+
+    private void checkBounds(int vertex) {
+        if (vertex < 0 || vertex >= parent.length)
+            throw new IllegalArgumentException("vertex(" + vertex + "): is out of range {0.." + (parent.length - 1) + "}");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder index = new StringBuilder("  ");
+        StringBuilder content = new StringBuilder();
+        for (int vertex = 0; vertex < parent.length; vertex++) {
+            index.append(vertex).append("   ,  ");
+            content.append(parent[vertex]).append("   ,  ");
+        }
+        return "Disjoint Sets { \n" + index + " \n " + content + "\n}";
+    }
+}
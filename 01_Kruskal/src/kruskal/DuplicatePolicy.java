@@ -0,0 +1,22 @@
+package kruskal;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * What a Graph does with an edge between two vertices that are already joined by another edge.
+ */
+public enum DuplicatePolicy {
+    /**
+     * The edge added first is kept, the others are ignored.
+     */
+    KEEP_FIRST,
+    /**
+     * Only the lightest edge is kept: a lighter one replaces the weight of the one in the graph.
+     */
+    KEEP_MIN,
+    /**
+     * Every edge is kept, so the graph becomes a multigraph. No index of vertex pairs is kept.
+     */
+    ALLOW_MULTI
+}
@@ -0,0 +1,565 @@
+package kruskal;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Minimum spanning forest kept up to date while the edges of a graph change.
+ *
+ * Once indexed, every edge of the graph is kept, either as a tree edge or as a
+ * non-tree edge.
+ * The forest is stored twice: in a link-cut tree where every tree edge is a node of
+ * its own, keyed by the edge order, so that the heaviest edge of any tree path is
+ * found in O(log V); and in an Euler tour forest, which knows the size of every tree
+ * and, through a heap of non-tree edges per vertex, the lightest non-tree edge that
+ * leaves any of its vertices.
+ *
+ * An edge joining two trees is simply linked; an edge closing a cycle replaces the
+ * heaviest edge of the cycle if it is lighter than it. When a tree edge is removed,
+ * or made heavier, it is cut, and the lightest non-tree edge that joins the two trees
+ * again takes its place. Every such edge has an end in the smaller tree, so only its
+ * non-tree edges are looked at, lightest first, and only the ones lighter than the
+ * replacement, which stay inside it, are skipped.
+ * Edges are compared like Edge.compareTo, so the forest is always the same
+ * Kruskal would return.
+ *
+ * Until indexEdges is called only the forest is kept, in the link-cut tree: edges
+ * can be added or made lighter in O(log V), and those left out of the forest are
+ * forgotten. Removing an edge or making it heavier needs the non-tree edges, so
+ * the edges of the graph must be indexed first.
+ */
+public class DynamicMinimumSpanningTree {
+
+    static final int MAX_EDGES = EdgeList.MAX_CAPACITY / 2;
+
+    private static final int NONE = -1;
+    private static final int[] NO_INCIDENCES = new int[0];
+
+    private final int amountOfVertex;
+    private final LinkCutTree tree;
+    private EulerTourForest tours = null;
+    private final LongIntHashMap pairs;
+    private final int[][] incidences;
+    private final int[] amountOfIncidences;
+    private final int[] treeEdges;
+    private final int[] tourHandles;
+    private final int[] freeTreeNodes;
+    private int amountOfFreeTreeNodes;
+
+    // Edges by id; tree edges know their tree node, non-tree edges the heap position of their two ends
+    private int[] lowVertices;
+    private int[] highVertices;
+    private double[] weights;
+    private int[] nextEdges;
+    private int[] treeNodes;
+    private int[] heapPositions;
+    private int usedEdges = 0;
+    private int freeEdge = NONE;
+
+    private int[] skipped = new int[16];
+    private int size;
+    private List<Edge> edges = null;
+
+    /**
+     * Keep the minimum spanning forest of a graph, without indexing its non-tree edges.
+     * @param amountOfVertex The number of vertices of the graph
+     * @param minimumSpanningForest The current minimum spanning forest of the graph
+     */
+    public DynamicMinimumSpanningTree(int amountOfVertex, List<Edge> minimumSpanningForest) {
+        this(amountOfVertex, minimumSpanningForest.size());
+        for (Edge edge : minimumSpanningForest)
+            link(newEdge(edge.getLowVertex(), edge.getHighVertex(), edge.weight()));
+    }
+
+    /**
+     * Keep the minimum spanning forest of a graph, given the edges of the graph and the
+     * forest Kruskal returns for them, with its non-tree edges indexed.
+     * @param amountOfVertex The number of vertices of the graph
+     * @param minimumSpanningForest The current minimum spanning forest of the graph
+     * @param graphEdges The edges of the graph, forest included
+     */
+    public DynamicMinimumSpanningTree(int amountOfVertex, List<Edge> minimumSpanningForest, EdgeList graphEdges) {
+        this(amountOfVertex, graphEdges.size());
+        for (Edge edge : minimumSpanningForest)
+            link(newEdge(edge.getLowVertex(), edge.getHighVertex(), edge.weight()));
+        indexEdges(graphEdges);
+    }
+
+    /**
+     * Index the edges of the graph that are out of the forest, in O(E log E), so that
+     * edges can be removed or made heavier. The edges must be those of the graph whose
+     * forest is kept, and nothing happens if they are already indexed.
+     * The non-tree edges are heaped, and their vertices keyed, before the forest is linked
+     * into the Euler tour forest, while keying a vertex still costs O(1), and the forest
+     * is then linked all at once.
+     * @param graphEdges The edges of the graph, forest included
+     */
+    public void indexEdges(EdgeList graphEdges) {
+        if (tours != null)
+            return;
+        if (usedEdges + graphEdges.size() > lowVertices.length)
+            growEdges(usedEdges + graphEdges.size());
+        int[] degrees = new int[amountOfVertex];
+        for (int position = 0; position < graphEdges.size(); position++)
+            if (graphEdges.lowVertex(position) != graphEdges.highVertex(position)) {
+                degrees[graphEdges.lowVertex(position)]++;
+                degrees[graphEdges.highVertex(position)]++;
+            }
+        for (int vertex = 0; vertex < amountOfVertex; vertex++)
+            if (degrees[vertex] > 0)
+                incidences[vertex] = new int[degrees[vertex]];
+
+        boolean[] claimed = new boolean[treeEdges.length];
+        for (int position = 0; position < graphEdges.size(); position++) {
+            int lowVertex = graphEdges.lowVertex(position), highVertex = graphEdges.highVertex(position);
+            double weight = graphEdges.weight(position);
+            if (claimTreeEdge(lowVertex, highVertex, weight, claimed))
+                continue;
+            int edge = newEdge(lowVertex, highVertex, weight);
+            if (lowVertex != highVertex) {
+                appendIncidence(lowVertex, 2 * edge);
+                appendIncidence(highVertex, 2 * edge + 1);
+            }
+        }
+        for (int node = 0; node < treeEdges.length; node++)
+            if (treeEdges[node] != NONE && !claimed[node]) {
+                int edge = treeEdges[node];
+                throw new IllegalArgumentException("edge(" + new Edge(lowVertices[edge], highVertices[edge], weights[edge]) + "): is not an edge of the graph");
+            }
+
+        tours = new EulerTourForest(amountOfVertex);
+        for (int vertex = 0; vertex < amountOfVertex; vertex++) {
+            for (int position = amountOfIncidences[vertex] / 2 - 1; position >= 0; position--)
+                siftDown(vertex, position, incidences[vertex][position]);
+            refreshKey(vertex);
+        }
+        int[] treeLowVertices = new int[size], treeHighVertices = new int[size];
+        int amountLinked = 0;
+        for (int node = 0; node < treeEdges.length; node++)
+            if (treeEdges[node] != NONE) {
+                treeLowVertices[amountLinked] = lowVertices[treeEdges[node]];
+                treeHighVertices[amountLinked] = highVertices[treeEdges[node]];
+                tourHandles[node] = amountLinked++;
+            }
+        tours.linkAll(treeLowVertices, treeHighVertices, amountLinked);
+    }
+
+    /**
+     * @return True if the non-tree edges are indexed.
+     */
+    public boolean indexesEdges() {
+        return tours != null;
+    }
+
+    /**
+     * Mark as claimed a tree edge between the two vertices with the given weight, if one is left.
+     */
+    private boolean claimTreeEdge(int lowVertex, int highVertex, double weight, boolean[] claimed) {
+        for (int edge = pairs.get(EdgeSorter.verticesKey(lowVertex, highVertex)); edge != NONE; edge = nextEdges[edge])
+            if (treeNodes[edge] != NONE && !claimed[treeNodes[edge]] && Double.compare(weights[edge], weight) == 0) {
+                claimed[treeNodes[edge]] = true;
+                return true;
+            }
+        return false;
+    }
+
+    private DynamicMinimumSpanningTree(int amountOfVertex, int edgeCapacity) {
+        int treeCapacity = Math.max(0, amountOfVertex - 1);
+        int capacity = Math.min(MAX_EDGES, Math.max(16, edgeCapacity));
+        this.amountOfVertex = amountOfVertex;
+        this.tree = new LinkCutTree(amountOfVertex + treeCapacity);
+        this.pairs = new LongIntHashMap(edgeCapacity);
+        this.incidences = new int[amountOfVertex][];
+        this.amountOfIncidences = new int[amountOfVertex];
+        Arrays.fill(incidences, NO_INCIDENCES);
+        this.treeEdges = new int[treeCapacity];
+        this.tourHandles = new int[treeCapacity];
+        this.freeTreeNodes = new int[treeCapacity];
+        Arrays.fill(treeEdges, NONE);
+        for (int node = 0; node < treeCapacity; node++)
+            freeTreeNodes[node] = treeCapacity - 1 - node;
+        this.amountOfFreeTreeNodes = treeCapacity;
+        this.lowVertices = new int[capacity];
+        this.highVertices = new int[capacity];
+        this.weights = new double[capacity];
+        this.nextEdges = new int[capacity];
+        this.treeNodes = new int[capacity];
+        this.heapPositions = new int[2 * capacity];
+    }
+
+    /**
+     * Update the forest after an edge is added to the graph.
+     * @param vertex1
+     * @param vertex2
+     * @param weight
+     * @return True if the edge became part of the forest.
+     */
+    public boolean addEdge(int vertex1, int vertex2, double weight) {
+        return insert(newEdge(Math.min(vertex1, vertex2), Math.max(vertex1, vertex2), weight));
+    }
+
+    /**
+     * Update the forest after an edge is removed from the graph. Between parallel
+     * edges of the same weight, one out of the forest is removed first.
+     * @param vertex1
+     * @param vertex2
+     * @param weight The weight of the edge
+     * @return True if the forest changed.
+     * @throws IllegalStateException If the edges are not indexed.
+     */
+    public boolean removeEdge(int vertex1, int vertex2, double weight) {
+        checkIndexed();
+        int edge = find(Math.min(vertex1, vertex2), Math.max(vertex1, vertex2), weight);
+        if (edge == NONE)
+            return false;
+        boolean changed = detach(edge);
+        deleteEdge(edge);
+        return changed;
+    }
+
+    /**
+     * Update the forest after the weight of an edge changes.
+     * @param vertex1
+     * @param vertex2
+     * @param oldWeight The weight of the edge before the change
+     * @param newWeight
+     * @return True if the forest changed, or the weight of one of its edges.
+     * @throws IllegalStateException If the edge is made heavier and the edges are not indexed.
+     */
+    public boolean updateWeight(int vertex1, int vertex2, double oldWeight, double newWeight) {
+        int byWeight = Double.compare(newWeight, oldWeight);
+        if (byWeight > 0)
+            checkIndexed();
+        int edge = find(Math.min(vertex1, vertex2), Math.max(vertex1, vertex2), oldWeight);
+        // Without the index, a non-tree edge made lighter is as good as a new edge
+        if (edge == NONE && tours == null && byWeight < 0)
+            return addEdge(vertex1, vertex2, newWeight);
+        if (edge == NONE || byWeight == 0)
+            return false;
+
+        // A lighter tree edge stays in the forest, and a heavier non-tree edge stays out of it
+        if (treeNodes[edge] != NONE && byWeight < 0) {
+            weights[edge] = newWeight;
+            tree.setKey(amountOfVertex + treeNodes[edge], newWeight, verticesKey(edge));
+            edges = null;
+            return true;
+        }
+        if (treeNodes[edge] == NONE && byWeight > 0) {
+            if (lowVertices[edge] == highVertices[edge]) {
+                weights[edge] = newWeight;
+            } else {
+                removeNonTreeEdge(edge);
+                weights[edge] = newWeight;
+                addNonTreeEdge(edge);
+            }
+            return false;
+        }
+
+        boolean changed = detach(edge);
+        weights[edge] = newWeight;
+        return insert(edge) || changed;
+    }
+
+    /**
+     * @return True if the two vertices are in the same tree of the forest.
+     */
+    public boolean connected(int vertex1, int vertex2) {
+        return tours != null ? tours.connected(vertex1, vertex2) : tree.connected(vertex1, vertex2);
+    }
+
+    /**
+     * @return The amount of edges in the forest.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The edges of the forest, sorted like Kruskal returns them.
+     */
+    public List<Edge> edges() {
+        if (edges == null) {
+            EdgeList forestEdges = new EdgeList(size);
+            for (int edge : treeEdges)
+                if (edge != NONE)
+                    forestEdges.add(lowVertices[edge], highVertices[edge], weights[edge]);
+            forestEdges.sort();
+            edges = forestEdges.toList();
+        }
+        return edges;
+    }
+
+    /**
+     * Place a stored edge in the forest, or out of it.
+     * @return True if it became part of the forest.
+     */
+    private boolean insert(int edge) {
+        int lowVertex = lowVertices[edge], highVertex = highVertices[edge];
+        if (lowVertex == highVertex) {
+            leaveOutOfForest(edge);
+            return false;
+        }
+        if (!connected(lowVertex, highVertex)) {
+            link(edge);
+            return true;
+        }
+
+        int heaviest = treeEdges[tree.pathMax(lowVertex, highVertex) - amountOfVertex];
+        if (compare(edge, heaviest) >= 0) {
+            leaveOutOfForest(edge);
+            return false;
+        }
+        cut(heaviest);
+        link(edge);
+        leaveOutOfForest(heaviest);
+        return true;
+    }
+
+    /**
+     * Index a stored edge that is not in the forest, or forget it if the edges are not indexed.
+     */
+    private void leaveOutOfForest(int edge) {
+        if (tours == null)
+            deleteEdge(edge);
+        else if (lowVertices[edge] != highVertices[edge])
+            addNonTreeEdge(edge);
+    }
+
+    private void checkIndexed() {
+        if (tours == null)
+            throw new IllegalStateException("forest(" + size + " edges): the edges out of it are not indexed");
+    }
+
+    /**
+     * Take a stored edge out of the forest, linking the edge that replaces it,
+     * or out of the non-tree edges.
+     * @return True if it was part of the forest.
+     */
+    private boolean detach(int edge) {
+        if (treeNodes[edge] == NONE) {
+            if (lowVertices[edge] != highVertices[edge])
+                removeNonTreeEdge(edge);
+            return false;
+        }
+        cut(edge);
+        int replacement = findReplacement(lowVertices[edge], highVertices[edge]);
+        if (replacement != NONE) {
+            removeNonTreeEdge(replacement);
+            link(replacement);
+        }
+        return true;
+    }
+
+    /**
+     * The lightest non-tree edge between the trees of lowVertex and highVertex. The non-tree
+     * edges of the smaller tree are taken lightest first; those inside it are set aside
+     * until the first one that leaves it is found, and then put back.
+     */
+    private int findReplacement(int lowVertex, int highVertex) {
+        int side = tours.treeSize(lowVertex) <= tours.treeSize(highVertex) ? lowVertex : highVertex;
+        int replacement = NONE;
+        int amountSkipped = 0;
+        for (int vertex = tours.minKeyVertex(side); vertex != NONE; vertex = tours.minKeyVertex(side)) {
+            int candidate = incidences[vertex][0] >>> 1;
+            if (!tours.connected(lowVertices[candidate], highVertices[candidate])) {
+                replacement = candidate;
+                break;
+            }
+            removeNonTreeEdge(candidate);
+            if (amountSkipped == skipped.length)
+                skipped = Arrays.copyOf(skipped, 2 * skipped.length);
+            skipped[amountSkipped++] = candidate;
+        }
+        for (int index = 0; index < amountSkipped; index++)
+            addNonTreeEdge(skipped[index]);
+        return replacement;
+    }
+
+    /**
+     * The edge between lowVertex and highVertex with the given weight, out of the forest if
+     * there are several, or NONE.
+     */
+    private int find(int lowVertex, int highVertex, double weight) {
+        int found = NONE;
+        for (int edge = pairs.get(EdgeSorter.verticesKey(lowVertex, highVertex)); edge != NONE; edge = nextEdges[edge])
+            if (Double.compare(weights[edge], weight) == 0) {
+                found = edge;
+                if (treeNodes[edge] == NONE)
+                    break;
+            }
+        return found;
+    }
+
+    private int newEdge(int lowVertex, int highVertex, double weight) {
+        int edge;
+        if (freeEdge != NONE) {
+            edge = freeEdge;
+            freeEdge = nextEdges[edge];
+        } else {
+            if (usedEdges == lowVertices.length)
+                growEdges(usedEdges + 1);
+            edge = usedEdges++;
+        }
+        long key = EdgeSorter.verticesKey(lowVertex, highVertex);
+        lowVertices[edge] = lowVertex;
+        highVertices[edge] = highVertex;
+        weights[edge] = weight;
+        treeNodes[edge] = NONE;
+        nextEdges[edge] = pairs.get(key);
+        pairs.put(key, edge);
+        return edge;
+    }
+
+    private void deleteEdge(int edge) {
+        long key = verticesKey(edge);
+        int first = pairs.get(key);
+        if (first == edge) {
+            if (nextEdges[edge] == NONE)
+                pairs.remove(key);
+            else
+                pairs.put(key, nextEdges[edge]);
+        } else {
+            int previous = first;
+            while (nextEdges[previous] != edge)
+                previous = nextEdges[previous];
+            nextEdges[previous] = nextEdges[edge];
+        }
+        nextEdges[edge] = freeEdge;
+        freeEdge = edge;
+    }
+
+    private void growEdges(int minimumCapacity) {
+        if (minimumCapacity > MAX_EDGES)
+            throw new IllegalStateException("edges(" + minimumCapacity + "): are more than a dynamic tree can hold {0.." + MAX_EDGES + "}");
+        int capacity = (int) Math.min(MAX_EDGES, Math.max(minimumCapacity, 2L * lowVertices.length));
+        lowVertices = Arrays.copyOf(lowVertices, capacity);
+        highVertices = Arrays.copyOf(highVertices, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+        nextEdges = Arrays.copyOf(nextEdges, capacity);
+        treeNodes = Arrays.copyOf(treeNodes, capacity);
+        heapPositions = Arrays.copyOf(heapPositions, 2 * capacity);
+    }
+
+    private void link(int edge) {
+        int node = freeTreeNodes[--amountOfFreeTreeNodes];
+        int lowVertex = lowVertices[edge], highVertex = highVertices[edge];
+        treeNodes[edge] = node;
+        treeEdges[node] = edge;
+        tree.setKey(amountOfVertex + node, weights[edge], verticesKey(edge));
+        tree.link(amountOfVertex + node, lowVertex);
+        tree.link(amountOfVertex + node, highVertex);
+        if (tours != null)
+            tourHandles[node] = tours.link(lowVertex, highVertex);
+        size++;
+        edges = null;
+    }
+
+    private void cut(int edge) {
+        int node = treeNodes[edge];
+        tree.cut(amountOfVertex + node, lowVertices[edge]);
+        tree.cut(amountOfVertex + node, highVertices[edge]);
+        if (tours != null)
+            tours.cut(tourHandles[node]);
+        treeNodes[edge] = NONE;
+        treeEdges[node] = NONE;
+        freeTreeNodes[amountOfFreeTreeNodes++] = node;
+        size--;
+        edges = null;
+    }
+
+    /*
+     * Every non-tree edge, loops aside, has an entry in the heap of each of its vertices:
+     * 2 * edge in the heap of its low vertex and 2 * edge + 1 in the one of its high vertex.
+     * The lightest entry of a heap is the key of its vertex in the Euler tour forest.
+     */
+
+    private void addNonTreeEdge(int edge) {
+        insertIncidence(lowVertices[edge], 2 * edge);
+        insertIncidence(highVertices[edge], 2 * edge + 1);
+    }
+
+    private void removeNonTreeEdge(int edge) {
+        removeIncidence(lowVertices[edge], 2 * edge);
+        removeIncidence(highVertices[edge], 2 * edge + 1);
+    }
+
+    private void appendIncidence(int vertex, int entry) {
+        if (amountOfIncidences[vertex] == incidences[vertex].length)
+            incidences[vertex] = Arrays.copyOf(incidences[vertex], Math.max(4, 2 * incidences[vertex].length));
+        int position = amountOfIncidences[vertex]++;
+        incidences[vertex][position] = entry;
+        heapPositions[entry] = position;
+    }
+
+    private void insertIncidence(int vertex, int entry) {
+        appendIncidence(vertex, entry);
+        siftUp(vertex, amountOfIncidences[vertex] - 1, entry);
+        if (incidences[vertex][0] == entry)
+            refreshKey(vertex);
+    }
+
+    private void removeIncidence(int vertex, int entry) {
+        int[] heap = incidences[vertex];
+        int position = heapPositions[entry];
+        int last = heap[--amountOfIncidences[vertex]];
+        if (last != entry) {
+            if (position > 0 && compare(last >>> 1, heap[(position - 1) >>> 1] >>> 1) < 0)
+                siftUp(vertex, position, last);
+            else
+                siftDown(vertex, position, last);
+        }
+        if (position == 0)
+            refreshKey(vertex);
+    }
+
+    private void siftUp(int vertex, int position, int entry) {
+        int[] heap = incidences[vertex];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (compare(heap[parent] >>> 1, entry >>> 1) <= 0)
+                break;
+            heap[position] = heap[parent];
+            heapPositions[heap[position]] = position;
+            position = parent;
+        }
+        heap[position] = entry;
+        heapPositions[entry] = position;
+    }
+
+    private void siftDown(int vertex, int position, int entry) {
+        int[] heap = incidences[vertex];
+        int heapSize = amountOfIncidences[vertex];
+        for (int child = 2 * position + 1; child < heapSize; child = 2 * position + 1) {
+            if (child + 1 < heapSize && compare(heap[child + 1] >>> 1, heap[child] >>> 1) < 0)
+                child++;
+            if (compare(heap[child] >>> 1, entry >>> 1) >= 0)
+                break;
+            heap[position] = heap[child];
+            heapPositions[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = entry;
+        heapPositions[entry] = position;
+    }
+
+    private void refreshKey(int vertex) {
+        if (amountOfIncidences[vertex] == 0) {
+            tours.clearKey(vertex);
+        } else {
+            int edge = incidences[vertex][0] >>> 1;
+            tours.setKey(vertex, weights[edge], verticesKey(edge));
+        }
+    }
+
+    private int compare(int edge1, int edge2) {
+        int byWeight = Double.compare(weights[edge1], weights[edge2]);
+        return byWeight != 0 ? byWeight : Long.compare(verticesKey(edge1), verticesKey(edge2));
+    }
+
+    private long verticesKey(int edge) {
+        return EdgeSorter.verticesKey(lowVertices[edge], highVertices[edge]);
+    }
+}
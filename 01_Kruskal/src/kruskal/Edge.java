@@ -1,3 +1,5 @@
+package kruskal;
+
 import static java.lang.Double.compare;
 import static java.lang.Integer.compare;
 import static java.lang.Math.min;
@@ -0,0 +1,72 @@
+package kruskal;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Binary min-heap of edge positions, ordered like Edge.compareTo.
+ * The heap is built bottom-up in O(E), so that only the edges actually
+ * polled pay the O(log E) cost of being ordered.
+ */
+public class EdgeHeap {
+
+    private final EdgeList edges;
+    private final int[] heap;
+    private int size;
+
+    /**
+     * Heapify all the edges of the given list. The list itself is not modified.
+     * @param edges
+     */
+    public EdgeHeap(EdgeList edges) {
+        this.edges = edges;
+        this.size = edges.size();
+        this.heap = new int[size];
+        for (int position = 0; position < size; position++)
+            heap[position] = position;
+        for (int node = (size >>> 1) - 1; node >= 0; node--)
+            siftDown(node);
+    }
+
+    /**
+     * @return True if there are no more edges to poll.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The amount of edges still in the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove the least edge of the heap.
+     * @return The position of the removed edge in the edge list.
+     */
+    public int poll() {
+        if (size == 0)
+            throw new IllegalStateException("the heap is empty");
+        int least = heap[0];
+        heap[0] = heap[--size];
+        siftDown(0);
+        return least;
+    }
+
+    private void siftDown(int node) {
+        int position = heap[node];
+        int half = size >>> 1;
+        while (node < half) {
+            int child = 2 * node + 1;
+            if (child + 1 < size && edges.compare(heap[child + 1], heap[child]) < 0)
+                child++;
+            if (edges.compare(heap[child], position) >= 0)
+                break;
+            heap[node] = heap[child];
+            node = child;
+        }
+        heap[node] = position;
+    }
+}
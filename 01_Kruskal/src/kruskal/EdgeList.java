@@ -0,0 +1,352 @@
+package kruskal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Compact store of undirected weighted edges, kept as parallel primitive arrays
+ * instead of one Edge object per edge.
+ * Edges are appended in insertion order and sorted, lazily, the first time
+ * an ordered view is requested. The order is the one defined by Edge.compareTo:
+ * weight, then low vertex, then high vertex.
+ * Weights are kept in an array of the primitive type matching the WeightType of the list.
+ * Being array based, a list holds at most MAX_CAPACITY edges: larger graphs belong
+ * in an OffHeapEdgeList.
+ */
+public class EdgeList implements EdgeStore {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] lowVertices;
+    private int[] highVertices;
+    private final WeightType weightType;
+    private double[] weights;
+    private float[] floatWeights;
+    private int[] intWeights;
+    private char[] shortWeights;
+    private int capacity;
+    private int size;
+    private boolean sorted = true;
+
+    /**
+     * Constructor for an empty edge list.
+     */
+    public EdgeList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for an empty edge list able to hold capacity edges before growing.
+     * @param capacity Must not be negative.
+     */
+    public EdgeList(int capacity) {
+        this(capacity, WeightType.DOUBLE);
+    }
+
+    /**
+     * Constructor for an empty edge list able to hold capacity edges before growing,
+     * that stores its weights as weightType.
+     * @param capacity Must not be negative.
+     * @param weightType
+     */
+    public EdgeList(int capacity, WeightType weightType) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity(" + capacity + "): capacity must not be negative");
+        this.weightType = weightType;
+        lowVertices = new int[capacity];
+        highVertices = new int[capacity];
+        switch (weightType) {
+            case FLOAT: floatWeights = new float[capacity]; break;
+            case INT: intWeights = new int[capacity]; break;
+            case SHORT: shortWeights = new char[capacity]; break;
+            default: weights = new double[capacity];
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Append an undirected edge. No validation is done on the arguments:
+     * the weight is cast to the weight type of the list.
+     * @param vertex1
+     * @param vertex2
+     * @param weight
+     * @return The position of the new edge.
+     */
+    public int add(int vertex1, int vertex2, double weight) {
+        if (size == capacity)
+            grow(size + 1);
+        lowVertices[size] = min(vertex1, vertex2);
+        highVertices[size] = max(vertex1, vertex2);
+        store(size, weight);
+        if (sorted && size > 0 && compare(size - 1, size) > 0)
+            sorted = false;
+        return size++;
+    }
+
+    /**
+     * Append the edges from..to-1 of three columns, the i-th joining vertices1[i] and vertices2[i].
+     * The columns are copied in bulk, and the order of the list is only compared until
+     * the first edge out of place. As add, no validation is done on the arguments.
+     */
+    void addAll(int[] vertices1, int[] vertices2, double[] weights, int from, int to) {
+        int first = size, length = to - from;
+        ensureCapacity(size + length);
+        System.arraycopy(vertices1, from, lowVertices, first, length);
+        System.arraycopy(vertices2, from, highVertices, first, length);
+        for (int position = first; position < first + length; position++) {
+            int vertex1 = lowVertices[position], vertex2 = highVertices[position];
+            lowVertices[position] = min(vertex1, vertex2);
+            highVertices[position] = max(vertex1, vertex2);
+        }
+        if (weightType == WeightType.DOUBLE)
+            System.arraycopy(weights, from, this.weights, first, length);
+        else
+            for (int i = 0; i < length; i++)
+                store(first + i, weights[from + i]);
+        size += length;
+        for (int position = max(first, 1); sorted && position < size; position++)
+            if (compare(position - 1, position) > 0)
+                sorted = false;
+    }
+
+    /**
+     * @return The amount of edges in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long amountOfEdges() {
+        return size;
+    }
+
+    /**
+     * @return The minor vertex of the edge at the given position.
+     */
+    public int lowVertex(int position) {
+        return lowVertices[position];
+    }
+
+    /**
+     * @return The major vertex of the edge at the given position.
+     */
+    public int highVertex(int position) {
+        return highVertices[position];
+    }
+
+    /**
+     * @return The weight of the edge at the given position.
+     */
+    public double weight(int position) {
+        switch (weightType) {
+            case FLOAT: return floatWeights[position];
+            case INT: return intWeights[position];
+            case SHORT: return shortWeights[position];
+            default: return weights[position];
+        }
+    }
+
+    /**
+     * The weight of the edge at the given position, for lists with integral weights.
+     */
+    int intWeight(int position) {
+        return weightType == WeightType.INT ? intWeights[position] : shortWeights[position];
+    }
+
+    /**
+     * @return How the weights are stored.
+     */
+    public WeightType weightType() {
+        return weightType;
+    }
+
+    private void store(int position, double weight) {
+        switch (weightType) {
+            case FLOAT: floatWeights[position] = (float) weight; break;
+            case INT: intWeights[position] = (int) weight; break;
+            case SHORT: shortWeights[position] = (char) weight; break;
+            default: weights[position] = weight;
+        }
+    }
+
+    @Override
+    public int lowVertex(long position) {
+        return lowVertices[(int) position];
+    }
+
+    @Override
+    public int highVertex(long position) {
+        return highVertices[(int) position];
+    }
+
+    @Override
+    public double weight(long position) {
+        return weight((int) position);
+    }
+
+    @Override
+    public Edge edge(long position) {
+        return edge((int) position);
+    }
+
+    /**
+     * Remove all the edges, keeping the capacity.
+     */
+    void clear() {
+        size = 0;
+        sorted = true;
+    }
+
+    /**
+     * Replace the weight of the edge at the given position. No validation is done on the weight.
+     */
+    void setWeight(int position, double weight) {
+        store(position, weight);
+        if (sorted && ((position > 0 && compare(position - 1, position) > 0)
+                || (position + 1 < size && compare(position, position + 1) > 0)))
+            sorted = false;
+    }
+
+    /**
+     * Remove the edge at the given position, moving the last edge into its place.
+     */
+    void remove(int position) {
+        size--;
+        if (position == size)
+            return;
+        lowVertices[position] = lowVertices[size];
+        highVertices[position] = highVertices[size];
+        setWeight(position, weight(size));
+    }
+
+    /**
+     * @return True if the edges are currently stored in ascending order.
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Materialize the edge at the given position.
+     */
+    public Edge edge(int position) {
+        return new Edge(lowVertices[position], highVertices[position], weight(position));
+    }
+
+    /**
+     * Materialize all the edges, in their current order.
+     */
+    public List<Edge> toList() {
+        List<Edge> edgeList = new ArrayList<>(size);
+        for (int position = 0; position < size; position++)
+            edgeList.add(edge(position));
+        return edgeList;
+    }
+
+    /**
+     * Comparison of two stored edges, consistent with Edge.compareTo.
+     */
+    public int compare(int position1, int position2) {
+        int byWeight = weightType.isIntegral()
+                ? Integer.compare(intWeight(position1), intWeight(position2))
+                : Double.compare(weight(position1), weight(position2));
+        if (byWeight != 0) return byWeight;
+        int byLowVertex = Integer.compare(lowVertices[position1], lowVertices[position2]);
+        if (byLowVertex != 0) return byLowVertex;
+        return Integer.compare(highVertices[position1], highVertices[position2]);
+    }
+
+    /**
+     * Sort the edges in place, through EdgeSorter. Does nothing if they are already sorted.
+     */
+    public void sort() {
+        sortWithOrder();
+    }
+
+    /**
+     * Sort the edges in place, as sort does, telling where each edge came from.
+     * @return The position of every edge before sorting, indexed by its new position, or null if they were already sorted.
+     */
+    int[] sortWithOrder() {
+        if (sorted) return null;
+        int[] order = new int[size];
+        for (int position = 0; position < size; position++)
+            order[position] = position;
+        EdgeSorter.sort(this, order, 0, size);
+        permute(order);
+        sorted = true;
+        return order;
+    }
+
+    /**
+     * Rearrange the edges so that the edge at order[i] moves to position i.
+     */
+    private void permute(int[] order) {
+        int[] sortedLowVertices = new int[capacity];
+        int[] sortedHighVertices = new int[capacity];
+        for (int position = 0; position < size; position++) {
+            sortedLowVertices[position] = lowVertices[order[position]];
+            sortedHighVertices[position] = highVertices[order[position]];
+        }
+        lowVertices = sortedLowVertices;
+        highVertices = sortedHighVertices;
+
+        switch (weightType) {
+            case FLOAT:
+                float[] sortedFloatWeights = new float[capacity];
+                for (int position = 0; position < size; position++)
+                    sortedFloatWeights[position] = floatWeights[order[position]];
+                floatWeights = sortedFloatWeights;
+                break;
+            case INT:
+                int[] sortedIntWeights = new int[capacity];
+                for (int position = 0; position < size; position++)
+                    sortedIntWeights[position] = intWeights[order[position]];
+                intWeights = sortedIntWeights;
+                break;
+            case SHORT:
+                char[] sortedShortWeights = new char[capacity];
+                for (int position = 0; position < size; position++)
+                    sortedShortWeights[position] = shortWeights[order[position]];
+                shortWeights = sortedShortWeights;
+                break;
+            default:
+                double[] sortedWeights = new double[capacity];
+                for (int position = 0; position < size; position++)
+                    sortedWeights[position] = weights[order[position]];
+                weights = sortedWeights;
+        }
+    }
+
+    /**
+     * Make room for at least capacity edges.
+     */
+    void ensureCapacity(int capacity) {
+        // A negative capacity is a sum of sizes that overflowed
+        if (capacity < 0 || capacity > this.capacity)
+            grow(capacity);
+    }
+
+    private void grow(int minimumCapacity) {
+        if (minimumCapacity < 0 || minimumCapacity > MAX_CAPACITY)
+            throw new IllegalStateException("capacity(" + Integer.toUnsignedString(minimumCapacity) + "): is more than an EdgeList can hold {0.." + MAX_CAPACITY + "}");
+        capacity = (int) min(MAX_CAPACITY, max(minimumCapacity, max(DEFAULT_CAPACITY, capacity + (long) (capacity >> 1))));
+        lowVertices = Arrays.copyOf(lowVertices, capacity);
+        highVertices = Arrays.copyOf(highVertices, capacity);
+        switch (weightType) {
+            case FLOAT: floatWeights = Arrays.copyOf(floatWeights, capacity); break;
+            case INT: intWeights = Arrays.copyOf(intWeights, capacity); break;
+            case SHORT: shortWeights = Arrays.copyOf(shortWeights, capacity); break;
+            default: weights = Arrays.copyOf(weights, capacity);
+        }
+    }
+}
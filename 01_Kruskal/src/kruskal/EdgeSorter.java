@@ -0,0 +1,177 @@
+package kruskal;
+
+import java.util.Arrays;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Sort stage for the edges of an EdgeList, working on arrays of edge positions
+ * so that no Edge objects or boxed comparators are involved.
+ *
+ * Large ranges are ordered with an LSD radix sort: first on the packed
+ * (lowVertex, highVertex) key, then, stably, on the IEEE-754 bits of the weight.
+ * Integral weights are sorted on their value instead, in a single counting
+ * pass when their range is not larger than the range being sorted.
+ * The resulting order is the one defined by Edge.compareTo.
+ * Small ranges fall back to a quicksort on EdgeList.compare.
+ */
+public class EdgeSorter {
+
+    static final int RADIX_SORT_THRESHOLD = 1 << 10;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX_MASK = (1 << RADIX_BITS) - 1;
+
+    /**
+     * Sort a range of edge positions by the order of the edges they refer to.
+     * @param edges The edges referred by positions
+     * @param positions Positions in edges
+     * @param from First index of the range (inclusive)
+     * @param to Last index of the range (exclusive)
+     */
+    public static void sort(EdgeList edges, int[] positions, int from, int to) {
+        if (to - from < RADIX_SORT_THRESHOLD)
+            quickSort(edges, positions, from, to - 1);
+        else
+            radixSort(edges, positions, from, to);
+    }
+
+    /**
+     * Map a weight to a long whose unsigned order is the order of Double.compare.
+     */
+    public static long weightKey(double weight) {
+        long bits = Double.doubleToLongBits(weight);
+        return bits ^ (bits >> 63 | Long.MIN_VALUE);
+    }
+
+    /**
+     * Pack the two vertices of an edge in a long whose order is the order of Edge.compareTo for equal weights.
+     */
+    public static long verticesKey(int lowVertex, int highVertex) {
+        return (long) lowVertex << 32 | highVertex;
+    }
+
+    private static void radixSort(EdgeList edges, int[] positions, int from, int to) {
+        int size = to - from;
+        int[] order = Arrays.copyOfRange(positions, from, to);
+        int[] orderBuffer = new int[size];
+        long[] keys = new long[size];
+        long[] keyBuffer = new long[size];
+        int[] count = new int[1 << RADIX_BITS];
+
+        for (int i = 0; i < size; i++)
+            keys[i] = verticesKey(edges.lowVertex(order[i]), edges.highVertex(order[i]));
+
+        for (int round = 0; round < 2; round++) {
+            int bits = Long.SIZE;
+            if (round == 1 && edges.weightType().isIntegral()) {
+                int maxWeight = 0;
+                for (int i = 0; i < size; i++)
+                    maxWeight = Math.max(maxWeight, edges.intWeight(order[i]));
+                if (maxWeight < Math.max(size, count.length)) {
+                    countingSort(edges, order, orderBuffer, maxWeight);
+                    order = orderBuffer;
+                    break;
+                }
+                for (int i = 0; i < size; i++)
+                    keys[i] = edges.intWeight(order[i]);
+                bits = Integer.SIZE;
+            } else if (round == 1) {
+                for (int i = 0; i < size; i++)
+                    keys[i] = weightKey(edges.weight(order[i]));
+            }
+
+            for (int shift = 0; shift < bits; shift += RADIX_BITS) {
+                Arrays.fill(count, 0);
+                for (int i = 0; i < size; i++)
+                    count[(int) (keys[i] >>> shift) & RADIX_MASK]++;
+
+                // Every key shares this digit, the pass would not move anything
+                if (count[(int) (keys[0] >>> shift) & RADIX_MASK] == size)
+                    continue;
+
+                for (int digit = 0, start = 0; digit < count.length; digit++) {
+                    int amount = count[digit];
+                    count[digit] = start;
+                    start += amount;
+                }
+                for (int i = 0; i < size; i++) {
+                    int target = count[(int) (keys[i] >>> shift) & RADIX_MASK]++;
+                    keyBuffer[target] = keys[i];
+                    orderBuffer[target] = order[i];
+                }
+
+                long[] swapKeys = keys;
+                keys = keyBuffer;
+                keyBuffer = swapKeys;
+                int[] swapOrder = order;
+                order = orderBuffer;
+                orderBuffer = swapOrder;
+            }
+        }
+        System.arraycopy(order, 0, positions, from, size);
+    }
+
+    /**
+     * Stable sort of order into sorted by integral weight, in O(size + maxWeight).
+     */
+    private static void countingSort(EdgeList edges, int[] order, int[] sorted, int maxWeight) {
+        int[] start = new int[maxWeight + 2];
+        for (int position : order)
+            start[edges.intWeight(position) + 1]++;
+        for (int weight = 1; weight < start.length; weight++)
+            start[weight] += start[weight - 1];
+        for (int position : order)
+            sorted[start[edges.intWeight(position)]++] = position;
+    }
+
+    private static void quickSort(EdgeList edges, int[] positions, int from, int to) {
+        while (to - from >= INSERTION_SORT_THRESHOLD) {
+            int pivot = partition(edges, positions, from, to);
+            // Recurse on the smaller half so the stack stays logarithmic
+            if (pivot - from < to - pivot) {
+                quickSort(edges, positions, from, pivot - 1);
+                from = pivot + 1;
+            } else {
+                quickSort(edges, positions, pivot + 1, to);
+                to = pivot - 1;
+            }
+        }
+        insertionSort(edges, positions, from, to);
+    }
+
+    private static int partition(EdgeList edges, int[] positions, int from, int to) {
+        int middle = (from + to) >>> 1;
+        if (less(edges, positions, middle, from)) swap(positions, middle, from);
+        if (less(edges, positions, to, from)) swap(positions, to, from);
+        if (less(edges, positions, to, middle)) swap(positions, to, middle);
+        swap(positions, middle, to - 1);
+
+        int pivot = to - 1, left = from, right = to - 1;
+        while (true) {
+            while (less(edges, positions, ++left, pivot)) ;
+            while (less(edges, positions, pivot, --right)) ;
+            if (left >= right) break;
+            swap(positions, left, right);
+        }
+        swap(positions, left, pivot);
+        return left;
+    }
+
+    private static void insertionSort(EdgeList edges, int[] positions, int from, int to) {
+        for (int i = from + 1; i <= to; i++)
+            for (int j = i; j > from && less(edges, positions, j, j - 1); j--)
+                swap(positions, j - 1, j);
+    }
+
+    private static boolean less(EdgeList edges, int[] positions, int i, int j) {
+        return edges.compare(positions[i], positions[j]) < 0;
+    }
+
+    private static void swap(int[] positions, int i, int j) {
+        int position = positions[i];
+        positions[i] = positions[j];
+        positions[j] = position;
+    }
+}
@@ -0,0 +1,49 @@
+package kruskal;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Read access to a store of undirected weighted edges addressed by long positions,
+ * so that stores larger than Integer.MAX_VALUE edges can be walked the same way as
+ * the on-heap ones. Once sorted, the order is the one defined by Edge.compareTo.
+ */
+public interface EdgeStore {
+
+    /**
+     * @return The amount of edges in the store.
+     */
+    long amountOfEdges();
+
+    /**
+     * @return The minor vertex of the edge at the given position.
+     */
+    int lowVertex(long position);
+
+    /**
+     * @return The major vertex of the edge at the given position.
+     */
+    int highVertex(long position);
+
+    /**
+     * @return The weight of the edge at the given position.
+     */
+    double weight(long position);
+
+    /**
+     * @return True if the edges are currently stored in ascending order.
+     */
+    boolean isSorted();
+
+    /**
+     * Sort the edges in place. Does nothing if they are already sorted.
+     */
+    void sort();
+
+    /**
+     * Materialize the edge at the given position.
+     */
+    default Edge edge(long position) {
+        return new Edge(lowVertex(position), highVertex(position), weight(position));
+    }
+}
@@ -0,0 +1,348 @@
+package kruskal;
+
+import java.util.Arrays;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Euler tour trees over the vertices {0..amountOfVertex-1}, representing a forest.
+ * Every tree is kept as the sequence of its Euler tour, in which each vertex appears
+ * once and each edge twice, once per direction; the sequence is stored in a splay tree.
+ * Link, cut, connected and the size of a tree all run in O(log n) amortized time.
+ *
+ * Vertices may carry a key made of a weight and a long tie breaker, and every tree can
+ * report its vertex with the least key, which is how a tree finds its lightest edge
+ * to the rest of the graph without looking at its vertices one by one.
+ *
+ * Splay trees are stored in parallel arrays; NONE marks a missing child or parent.
+ * Vertices are the nodes {0..amountOfVertex-1}; the two directions of the edge with
+ * handle h are the nodes amountOfVertex + 2h and amountOfVertex + 2h + 1.
+ */
+public class EulerTourForest {
+
+    private static final int NONE = -1;
+
+    private final int amountOfVertex;
+    private final int[] left;
+    private final int[] right;
+    private final int[] parent;
+    private final int[] nodes;
+    private final int[] vertices;
+    private final int[] minVertex;
+    private final boolean[] keyed;
+    private final double[] weights;
+    private final long[] tieBreaks;
+    private final int[] freeHandles;
+    private int amountOfFreeHandles;
+
+    /**
+     * Create a forest of amountOfVertex isolated vertices, without keys.
+     * @param amountOfVertex
+     */
+    public EulerTourForest(int amountOfVertex) {
+        if (amountOfVertex < 0)
+            throw new IllegalArgumentException("amountOfVertex(" + amountOfVertex + "): must not be negative");
+        int amountOfHandles = Math.max(0, amountOfVertex - 1);
+        int capacity = amountOfVertex + 2 * amountOfHandles;
+        this.amountOfVertex = amountOfVertex;
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        nodes = new int[capacity];
+        vertices = new int[capacity];
+        minVertex = new int[capacity];
+        keyed = new boolean[amountOfVertex];
+        weights = new double[amountOfVertex];
+        tieBreaks = new long[amountOfVertex];
+        for (int node = 0; node < capacity; node++) {
+            left[node] = right[node] = parent[node] = minVertex[node] = NONE;
+            nodes[node] = 1;
+            vertices[node] = node < amountOfVertex ? 1 : 0;
+        }
+        freeHandles = new int[amountOfHandles];
+        for (int handle = 0; handle < amountOfHandles; handle++)
+            freeHandles[handle] = amountOfHandles - 1 - handle;
+        amountOfFreeHandles = amountOfHandles;
+    }
+
+    /**
+     * Join two trees with an edge between vertex1 and vertex2.
+     * The two vertices must not be connected.
+     * @return The handle of the new edge, to cut it.
+     */
+    public int link(int vertex1, int vertex2) {
+        int handle = freeHandles[--amountOfFreeHandles];
+        int arc = amountOfVertex + 2 * handle;
+        // tour(vertex1), vertex1 -> vertex2, tour(vertex2), vertex2 -> vertex1
+        join(join(join(reroot(vertex1), arc), reroot(vertex2)), arc + 1);
+        return handle;
+    }
+
+    /**
+     * Link the edges of a forest at once into this one, which must have no edges yet.
+     * The tour of every tree is laid out by a depth first search and its splay tree is
+     * built balanced, in O(n) overall, instead of rerooting a tree for every link.
+     * The i-th edge joins vertices1[i] and vertices2[i], and gets the handle i.
+     * @param vertices1
+     * @param vertices2
+     * @param amountOfEdges
+     */
+    public void linkAll(int[] vertices1, int[] vertices2, int amountOfEdges) {
+        if (amountOfFreeHandles != freeHandles.length)
+            throw new IllegalStateException("edges(" + (freeHandles.length - amountOfFreeHandles) + "): the forest is not empty");
+        if (amountOfEdges > freeHandles.length)
+            throw new IllegalArgumentException("amountOfEdges(" + amountOfEdges + "): are more than a forest can hold {0.." + freeHandles.length + "}");
+
+        // Adjacency of the forest, from each vertex to the edges it is an end of
+        int[] offsets = new int[amountOfVertex + 1];
+        for (int edge = 0; edge < amountOfEdges; edge++) {
+            offsets[vertices1[edge] + 1]++;
+            offsets[vertices2[edge] + 1]++;
+        }
+        for (int vertex = 0; vertex < amountOfVertex; vertex++)
+            offsets[vertex + 1] += offsets[vertex];
+        int[] adjacentEdges = new int[2 * amountOfEdges];
+        int[] filled = Arrays.copyOf(offsets, amountOfVertex);
+        for (int edge = 0; edge < amountOfEdges; edge++) {
+            adjacentEdges[filled[vertices1[edge]]++] = edge;
+            adjacentEdges[filled[vertices2[edge]]++] = edge;
+        }
+
+        // Each tour is the root, then for every child the arc down, the tour of the child and the arc up
+        boolean[] visited = new boolean[amountOfVertex];
+        int[] tour = new int[amountOfVertex + 2 * amountOfEdges];
+        int[] vertexStack = new int[amountOfVertex], nextStack = new int[amountOfVertex], edgeStack = new int[amountOfVertex];
+        for (int root = 0; root < amountOfVertex; root++) {
+            if (visited[root] || offsets[root] == offsets[root + 1])
+                continue;
+            int length = 0, depth = 0;
+            visited[root] = true;
+            tour[length++] = root;
+            vertexStack[0] = root;
+            nextStack[0] = offsets[root];
+            edgeStack[0] = NONE;
+            while (depth >= 0) {
+                int vertex = vertexStack[depth];
+                if (nextStack[depth] == offsets[vertex + 1]) {
+                    if (edgeStack[depth] != NONE)
+                        tour[length++] = amountOfVertex + 2 * edgeStack[depth] + 1;
+                    depth--;
+                    continue;
+                }
+                int edge = adjacentEdges[nextStack[depth]++];
+                int child = vertices1[edge] == vertex ? vertices2[edge] : vertices1[edge];
+                if (visited[child])
+                    continue;
+                visited[child] = true;
+                tour[length++] = amountOfVertex + 2 * edge;
+                tour[length++] = child;
+                depth++;
+                vertexStack[depth] = child;
+                nextStack[depth] = offsets[child];
+                edgeStack[depth] = edge;
+            }
+            build(tour, 0, length, NONE);
+        }
+
+        for (int handle = 0; handle < freeHandles.length - amountOfEdges; handle++)
+            freeHandles[handle] = freeHandles.length - 1 - handle;
+        amountOfFreeHandles = freeHandles.length - amountOfEdges;
+    }
+
+    /**
+     * Build a balanced splay tree of the nodes tour[from..to-1], in their order.
+     * @return Its root.
+     */
+    private int build(int[] tour, int from, int to, int father) {
+        if (from == to)
+            return NONE;
+        int middle = (from + to) >>> 1;
+        int node = tour[middle];
+        parent[node] = father;
+        left[node] = build(tour, from, middle, node);
+        right[node] = build(tour, middle + 1, to, node);
+        pull(node);
+        return node;
+    }
+
+    /**
+     * Remove the edge with the given handle, splitting its tree in two.
+     */
+    public void cut(int handle) {
+        int arc1 = amountOfVertex + 2 * handle, arc2 = arc1 + 1;
+        splay(arc2);
+        int index2 = count(left[arc2]);
+        splay(arc1);
+        int first = count(left[arc1]) < index2 ? arc1 : arc2;
+        int second = first == arc1 ? arc2 : arc1;
+
+        // before, first, middle, second, after: middle is the tour of one side, before and after the other
+        int before = detachLeft(first);
+        splay(second);
+        int after = right[second];
+        right[second] = NONE;
+        if (after != NONE) parent[after] = NONE;
+        pull(second);
+        splay(first);
+        int middle = right[first];
+        right[first] = NONE;
+        parent[middle] = NONE;
+        pull(first);
+        detachLeft(second);
+        join(before, after);
+        freeHandles[amountOfFreeHandles++] = handle;
+    }
+
+    /**
+     * @return True if the two vertices are in the same tree.
+     */
+    public boolean connected(int vertex1, int vertex2) {
+        if (vertex1 == vertex2)
+            return true;
+        splay(vertex1);
+        splay(vertex2);
+        // vertex1 only stops being a root if the splay of vertex2 went through it
+        return parent[vertex1] != NONE;
+    }
+
+    /**
+     * @return The amount of vertices in the tree of vertex.
+     */
+    public int treeSize(int vertex) {
+        splay(vertex);
+        return vertices[vertex];
+    }
+
+    /**
+     * Give a key to a vertex, replacing the one it had.
+     */
+    public void setKey(int vertex, double weight, long tieBreak) {
+        splay(vertex);
+        keyed[vertex] = true;
+        weights[vertex] = weight;
+        tieBreaks[vertex] = tieBreak;
+        pull(vertex);
+    }
+
+    /**
+     * Remove the key of a vertex.
+     */
+    public void clearKey(int vertex) {
+        splay(vertex);
+        keyed[vertex] = false;
+        pull(vertex);
+    }
+
+    /**
+     * @return The vertex with the least key in the tree of vertex, or -1 if none of them has a key.
+     */
+    public int minKeyVertex(int vertex) {
+        splay(vertex);
+        return minVertex[vertex];
+    }
+
+    /**
+     * Rotate the tour of the tree of vertex so that it starts at vertex.
+     * @return The root of the splay tree of the tour.
+     */
+    private int reroot(int vertex) {
+        int before = detachLeft(vertex);
+        return join(vertex, before);
+    }
+
+    /**
+     * Split the sequence of node right before it.
+     * @return The root of the part before node, which is left at the root of the rest.
+     */
+    private int detachLeft(int node) {
+        splay(node);
+        int before = left[node];
+        left[node] = NONE;
+        if (before != NONE) parent[before] = NONE;
+        pull(node);
+        return before;
+    }
+
+    /**
+     * Concatenate two sequences, given by the roots of their splay trees.
+     * @return The root of the concatenation.
+     */
+    private int join(int root1, int root2) {
+        if (root1 == NONE) return root2;
+        if (root2 == NONE) return root1;
+        int last = root1;
+        while (right[last] != NONE)
+            last = right[last];
+        splay(last);
+        right[last] = root2;
+        parent[root2] = last;
+        pull(last);
+        return last;
+    }
+
+    private void splay(int node) {
+        while (parent[node] != NONE) {
+            int father = parent[node];
+            int grandFather = parent[father];
+            if (grandFather != NONE) {
+                boolean zigZig = (left[grandFather] == father) == (left[father] == node);
+                rotate(zigZig ? father : node);
+            }
+            rotate(node);
+        }
+    }
+
+    private void rotate(int node) {
+        int father = parent[node];
+        int grandFather = parent[father];
+        if (grandFather != NONE) {
+            if (left[grandFather] == father) left[grandFather] = node;
+            else right[grandFather] = node;
+        }
+        parent[node] = grandFather;
+
+        if (left[father] == node) {
+            left[father] = right[node];
+            if (right[node] != NONE) parent[right[node]] = father;
+            right[node] = father;
+        } else {
+            right[father] = left[node];
+            if (left[node] != NONE) parent[left[node]] = father;
+            left[node] = father;
+        }
+        parent[father] = node;
+        pull(father);
+        pull(node);
+    }
+
+    private int count(int node) {
+        return node == NONE ? 0 : nodes[node];
+    }
+
+    private void pull(int node) {
+        int min = node < amountOfVertex && keyed[node] ? node : NONE;
+        int leftChild = left[node], rightChild = right[node];
+        nodes[node] = 1;
+        vertices[node] = node < amountOfVertex ? 1 : 0;
+        if (leftChild != NONE) {
+            nodes[node] += nodes[leftChild];
+            vertices[node] += vertices[leftChild];
+            min = least(min, minVertex[leftChild]);
+        }
+        if (rightChild != NONE) {
+            nodes[node] += nodes[rightChild];
+            vertices[node] += vertices[rightChild];
+            min = least(min, minVertex[rightChild]);
+        }
+        minVertex[node] = min;
+    }
+
+    private int least(int vertex1, int vertex2) {
+        if (vertex1 == NONE) return vertex2;
+        if (vertex2 == NONE) return vertex1;
+        int byWeight = Double.compare(weights[vertex1], weights[vertex2]);
+        if (byWeight != 0) return byWeight < 0 ? vertex1 : vertex2;
+        return tieBreaks[vertex1] <= tieBreaks[vertex2] ? vertex1 : vertex2;
+    }
+}
@@ -0,0 +1,197 @@
+package kruskal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Out-of-core implementation of the Kruskal algorithm, for graph files whose
+ * edges do not fit in memory.
+ *
+ * The edges of a GraphFile are read in runs of at most runSize edges, each run is
+ * sorted in memory and spilled to a temporary file, and the runs are then k-way
+ * merged as a stream into the DisjointSets filter. Only the union-find, the tree
+ * and one buffer per run stay in memory, and reading stops as soon as the tree is
+ * complete. Files flagged as sorted are streamed directly, without any run.
+ */
+public class ExternalKruskal {
+
+    static final int DEFAULT_RUN_SIZE = 1 << 21;
+    private static final int RECORDS_PER_BUFFER = 1 << 12;
+
+    /**
+     * Returns the minimum spanning tree of a graph file, with runs of DEFAULT_RUN_SIZE
+     * edges spilled to the default temporary directory.
+     */
+    public static List<Edge> minimumSpanningTree(Path graphFile) throws IOException {
+        return minimumSpanningTree(graphFile, DEFAULT_RUN_SIZE, null);
+    }
+
+    /**
+     * Returns the minimum spanning tree of a graph file, the same Kruskal would return
+     * for the graph stored in it.
+     * @param graphFile A file in the GraphFile format
+     * @param runSize The amount of edges sorted in memory at a time
+     * @param temporaryDirectory Where the runs are spilled, null for the default temporary directory
+     * @return The list of edges that make the MST of the graph
+     */
+    public static List<Edge> minimumSpanningTree(Path graphFile, int runSize, Path temporaryDirectory) throws IOException {
+        if (runSize <= 0)
+            throw new IllegalArgumentException("runSize(" + runSize + "): must be greater than 0");
+
+        List<Path> runFiles = new ArrayList<>();
+        List<RunReader> runs = new ArrayList<>();
+        try (FileChannel input = FileChannel.open(graphFile, StandardOpenOption.READ)) {
+            GraphFile.Header header = GraphFile.readHeader(input, graphFile);
+            if (header.sorted) {
+                runs.add(new RunReader(input, GraphFile.HEADER_SIZE, header.amountOfEdges));
+            } else {
+                for (long first = 0; first < header.amountOfEdges; first += runSize) {
+                    int records = (int) Math.min(runSize, header.amountOfEdges - first);
+                    Path runFile = temporaryDirectory == null
+                            ? Files.createTempFile("kruskal-run", ".bin")
+                            : Files.createTempFile(temporaryDirectory, "kruskal-run", ".bin");
+                    runFiles.add(runFile);
+                    writeRun(sortedRun(input, first, records), runFile);
+                    runs.add(new RunReader(FileChannel.open(runFile, StandardOpenOption.READ), 0, records));
+                }
+            }
+            return merge(graphFile, header.amountOfVertex, runs);
+        } finally {
+            for (RunReader run : runs)
+                run.channel.close();
+            for (Path runFile : runFiles)
+                Files.deleteIfExists(runFile);
+        }
+    }
+
+    private static List<Edge> merge(Path graphFile, int amountOfVertex, List<RunReader> runs) throws IOException {
+        List<Edge> minimumSpanningTree = new ArrayList<>();
+        DisjointSets set = new DisjointSets(amountOfVertex);
+        IndexedDaryHeap heads = new IndexedDaryHeap(runs.size(), Prim.HEAP_ARITY);
+        for (int run = 0; run < runs.size(); run++)
+            offerHead(heads, runs, run);
+
+        double lastWeight = Double.NEGATIVE_INFINITY;
+        long lastVertices = Long.MIN_VALUE;
+        while (!heads.isEmpty() && minimumSpanningTree.size() < amountOfVertex - 1) {
+            int run = heads.poll();
+            RunReader reader = runs.get(run);
+            int vertex1 = reader.lowVertex, vertex2 = reader.highVertex;
+            double weight = reader.weight;
+            long vertices = EdgeSorter.verticesKey(vertex1, vertex2);
+            if (weight < 0)
+                throw new IOException(graphFile + ": weight(" + weight + "): Weight must not be negative");
+
+            // Only a file wrongly flagged as sorted can break the order of the merge
+            int order = Double.compare(weight, lastWeight);
+            if (order < 0 || (order == 0 && vertices < lastVertices))
+                throw new IOException(graphFile + ": flagged as sorted, but its edges are not");
+            lastWeight = weight;
+            lastVertices = vertices;
+
+            try {
+                if (vertex1 != vertex2 && set.union(vertex1, vertex2))
+                    minimumSpanningTree.add(new Edge(vertex1, vertex2, weight));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(graphFile + ": " + e.getMessage(), e);
+            }
+            offerHead(heads, runs, run);
+        }
+        return minimumSpanningTree;
+    }
+
+    private static void offerHead(IndexedDaryHeap heads, List<RunReader> runs, int run) throws IOException {
+        RunReader reader = runs.get(run);
+        if (reader.next())
+            heads.offer(run, reader.weight, EdgeSorter.verticesKey(reader.lowVertex, reader.highVertex));
+    }
+
+    private static EdgeList sortedRun(FileChannel input, long first, int records) throws IOException {
+        MappedByteBuffer window = input.map(FileChannel.MapMode.READ_ONLY,
+                GraphFile.HEADER_SIZE + first * GraphFile.RECORD_SIZE, (long) records * GraphFile.RECORD_SIZE);
+        window.order(ByteOrder.LITTLE_ENDIAN);
+        EdgeList run = new EdgeList(records);
+        for (int record = 0; record < records; record++)
+            run.add(window.getInt(), window.getInt(), window.getDouble());
+        run.sort();
+        return run;
+    }
+
+    private static void writeRun(EdgeList run, Path runFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(runFile, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(RECORDS_PER_BUFFER * GraphFile.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            for (int position = 0; position < run.size(); position++) {
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    while (buffer.hasRemaining())
+                        channel.write(buffer);
+                    buffer.clear();
+                }
+                buffer.putInt(run.lowVertex(position)).putInt(run.highVertex(position)).putDouble(run.weight(position));
+            }
+            buffer.flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        }
+    }
+
+    /**
+     * Buffered sequential reader of the edge records of a run.
+     */
+    private static class RunReader {
+
+        final FileChannel channel;
+        private final long amountOfEdges;
+        private final ByteBuffer buffer = ByteBuffer.allocate(RECORDS_PER_BUFFER * GraphFile.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long read;
+        private long position;
+        int lowVertex;
+        int highVertex;
+        double weight;
+
+        RunReader(FileChannel channel, long offset, long amountOfEdges) {
+            this.channel = channel;
+            this.amountOfEdges = amountOfEdges;
+            this.position = offset;
+            buffer.limit(0);
+        }
+
+        /**
+         * Move to the next edge of the run.
+         * @return False if the run is over.
+         */
+        boolean next() throws IOException {
+            if (read == amountOfEdges)
+                return false;
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                long records = Math.min(RECORDS_PER_BUFFER, amountOfEdges - read);
+                buffer.limit((int) records * GraphFile.RECORD_SIZE);
+                while (buffer.hasRemaining()) {
+                    int bytes = channel.read(buffer, position);
+                    if (bytes < 0)
+                        throw new IOException("unexpected end of run");
+                    position += bytes;
+                }
+                buffer.flip();
+            }
+            int vertex1 = buffer.getInt(), vertex2 = buffer.getInt();
+            lowVertex = Math.min(vertex1, vertex2);
+            highVertex = Math.max(vertex1, vertex2);
+            weight = buffer.getDouble();
+            read++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package kruskal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Implementation of the Filter-Kruskal algorithm.
+ * The edges are partitioned around a pivot: the light half is solved first,
+ * then the heavy half is filtered in parallel, dropping the edges whose
+ * vertices are already connected, before being solved in turn.
+ * Only small ranges are ever sorted, and the edges are accepted in the same
+ * order as Kruskal, so the resulting tree is identical.
+ */
+public class FilterKruskal {
+
+    static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+    static final int FILTER_GRANULARITY = 1 << 14;
+
+    private final EdgeList edges;
+    private final int[] positions;
+    private final int amountOfVertex;
+    private final DisjointSets set;
+    private final List<Edge> minimumSpanningTree = new ArrayList<>();
+    private final ForkJoinPool pool;
+
+    private FilterKruskal(Graph graph, ForkJoinPool pool) {
+        this.edges = graph.edgeList();
+        this.amountOfVertex = graph.amountOfVertex();
+        this.set = new DisjointSets(amountOfVertex);
+        this.pool = pool;
+        this.positions = new int[edges.size()];
+        for (int position = 0; position < positions.length; position++)
+            positions[position] = position;
+    }
+
+    /**
+     * Returns the minimum spanning tree of a Graph, filtering on the common ForkJoinPool.
+     * @param graph
+     * @return The list of edges that make the MST of the given graph
+     */
+    public static List<Edge> minimumSpanningTree(Graph graph) {
+        return minimumSpanningTree(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the minimum spanning tree of a Graph, the same returned by Kruskal.minimumSpanningTree.
+     * The edges of the graph are left in their current order.
+     * @param graph
+     * @param pool The pool running the parallel filtering
+     * @return The list of edges that make the MST of the given graph
+     */
+    public static List<Edge> minimumSpanningTree(Graph graph, ForkJoinPool pool) {
+        FilterKruskal filterKruskal = new FilterKruskal(graph, pool);
+        filterKruskal.solve(0, filterKruskal.positions.length);
+        return filterKruskal.minimumSpanningTree;
+    }
+
+    private void solve(int from, int to) {
+        while (!isComplete() && from < to) {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                kruskal(from, to);
+                return;
+            }
+
+            int split = partition(from, to);
+            if (split == to) {
+                kruskal(from, to);
+                return;
+            }
+
+            solve(from, split);
+            if (isComplete())
+                return;
+            from = split;
+            to = split + pool.invoke(new Filter(split, to));
+        }
+    }
+
+    private void kruskal(int from, int to) {
+        EdgeSorter.sort(edges, positions, from, to);
+        for (int i = from; i < to && !isComplete(); i++) {
+            int position = positions[i];
+            int vertex1 = edges.lowVertex(position);
+            int vertex2 = edges.highVertex(position);
+            if (vertex1 != vertex2 && set.union(vertex1, vertex2))
+                minimumSpanningTree.add(edges.edge(position));
+        }
+    }
+
+    /**
+     * Move the edges not greater than a pivot to the front of the range.
+     * @return The start of the heavy part of the range.
+     */
+    private int partition(int from, int to) {
+        int pivot = medianOfThree(positions[from], positions[(from + to) >>> 1], positions[to - 1]);
+        int split = from;
+        for (int i = from; i < to; i++) {
+            if (edges.compare(positions[i], pivot) <= 0) {
+                int position = positions[i];
+                positions[i] = positions[split];
+                positions[split++] = position;
+            }
+        }
+        return split;
+    }
+
+    private int medianOfThree(int position1, int position2, int position3) {
+        if (edges.compare(position1, position2) > 0) {
+            int position = position1;
+            position1 = position2;
+            position2 = position;
+        }
+        if (edges.compare(position2, position3) <= 0)
+            return position2;
+        return edges.compare(position1, position3) > 0 ? position1 : position3;
+    }
+
+    private boolean isComplete() {
+        return minimumSpanningTree.size() >= amountOfVertex - 1;
+    }
+
+    /**
+     * Compacts a range of positions, keeping in their relative order only the edges
+     * that still join two different components.
+     * Computes the amount of edges kept.
+     */
+    @SuppressWarnings("serial")
+    private class Filter extends RecursiveTask<Integer> {
+
+        private final int from;
+        private final int to;
+
+        Filter(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= FILTER_GRANULARITY) {
+                int kept = from;
+                for (int i = from; i < to; i++) {
+                    int position = positions[i];
+                    int vertex1 = edges.lowVertex(position);
+                    int vertex2 = edges.highVertex(position);
+                    if (vertex1 != vertex2 && set.findWithoutCompression(vertex1) != set.findWithoutCompression(vertex2))
+                        positions[kept++] = position;
+                }
+                return kept - from;
+            }
+
+            int middle = (from + to) >>> 1;
+            Filter left = new Filter(from, middle);
+            left.fork();
+            int keptRight = new Filter(middle, to).compute();
+            int keptLeft = left.join();
+            System.arraycopy(positions, middle, positions, from + keptLeft, keptRight);
+            return keptLeft + keptRight;
+        }
+    }
+}
@@ -0,0 +1,779 @@
+package kruskal;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.*;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Implementation of a weighted undirected graph, kept as a compact list of
+ * edges, sorted lazily when an ordered view is needed.
+ * An adjacency index is only built on demand, for dense graphs, whose minimum
+ * spanning tree is computed with Prim instead of Kruskal.
+ * Edges are kept on the heap and counted with ints, up to EdgeList.MAX_CAPACITY.
+ * The minimum spanning tree of larger graphs is found by storing their edges in an
+ * OffHeapEdgeList and calling Kruskal.minimumSpanningTree(EdgeStore, int).
+ */
+public class Graph {
+    static final int PRIM_DENSITY_THRESHOLD = 16;
+    private static final int BATCH_CHUNK = 1 << 16;
+
+    private final int amountOfVertex;
+    private final EdgeList edges;
+    private final DuplicatePolicy duplicatePolicy;
+    private final WeightType weightType;
+    private final LongIntHashMap edgePositions;
+    private int[] parallelPositions = null;
+    private AdjacencyIndex adjacencyIndex = null;
+    private List<Edge> mst = null;
+    private DynamicMinimumSpanningTree dynamicMst = null;
+    private DisjointSets components = null;
+    private SpanningForest forest = null;
+    private MinimumSpanningTreeIndex mstIndex = null;
+    private double mstWeight;
+    private double totalWeight = 0;
+    private double minWeight = Double.POSITIVE_INFINITY;
+    private double maxWeight = Double.NEGATIVE_INFINITY;
+    private int amountOfLoops = 0;
+
+    /**
+     * Constructor for a disconnected graph of a given size.
+     * @param size The number of vertices
+     */
+    public Graph(int size) {
+        this(size, 0);
+    }
+
+    /**
+     * Constructor for a disconnected graph of a given size, pre-sized to hold
+     * edgeCapacity edges without growing.
+     * @param size The number of vertices
+     * @param edgeCapacity The expected number of edges
+     */
+    public Graph(int size, int edgeCapacity) {
+        this(size, edgeCapacity, DuplicatePolicy.KEEP_FIRST);
+    }
+
+    /**
+     * Constructor for a disconnected graph of a given size, pre-sized to hold
+     * edgeCapacity edges without growing, that handles repeated edges as the policy says.
+     * @param size The number of vertices
+     * @param edgeCapacity The expected number of edges
+     * @param duplicatePolicy What to do with an edge between two vertices already joined
+     */
+    public Graph(int size, int edgeCapacity, DuplicatePolicy duplicatePolicy) {
+        this(size, edgeCapacity, duplicatePolicy, WeightType.DOUBLE);
+    }
+
+    /**
+     * Constructor for a disconnected graph of a given size, pre-sized to hold
+     * edgeCapacity edges without growing, that handles repeated edges as the policy says
+     * and stores its weights as weightType.
+     * @param size The number of vertices
+     * @param edgeCapacity The expected number of edges
+     * @param duplicatePolicy What to do with an edge between two vertices already joined
+     * @param weightType How to store the weights of the edges
+     */
+    public Graph(int size, int edgeCapacity, DuplicatePolicy duplicatePolicy, WeightType weightType) {
+        if (size < 0)
+            throw new IllegalArgumentException("size(" + size + "): the size of a graph must be greater or equal than 0");
+        if (edgeCapacity < 0)
+            throw new IllegalArgumentException("edgeCapacity(" + edgeCapacity + "): the capacity must be greater or equal than 0");
+        this.amountOfVertex = size;
+        this.edges = new EdgeList(edgeCapacity, weightType);
+        this.duplicatePolicy = duplicatePolicy;
+        this.weightType = weightType;
+        this.edgePositions = new LongIntHashMap(duplicatePolicy == DuplicatePolicy.ALLOW_MULTI ? 0 : edgeCapacity);
+    }
+
+    /**
+     * Constructor for a graph made of the edges already stored in a list, which is
+     * adopted as the edge store of the graph, without copying it.
+     * @param size The number of vertices
+     * @param edges Edges between vertices of the graph, with non negative weights and no repeated vertex pair
+     */
+    Graph(int size, EdgeList edges) {
+        if (size < 0)
+            throw new IllegalArgumentException("size(" + size + "): the size of a graph must be greater or equal than 0");
+        this.amountOfVertex = size;
+        this.edges = edges;
+        this.duplicatePolicy = DuplicatePolicy.KEEP_FIRST;
+        this.weightType = edges.weightType();
+        this.edgePositions = new LongIntHashMap(edges.size());
+        for (int position = 0; position < edges.size(); position++) {
+            checkBounds(edges.highVertex(position));
+            checkBounds(edges.lowVertex(position));
+            checkWeight(edges.weight(position));
+            if (edgePositions.putIfAbsent(keyOf(edges.lowVertex(position), edges.highVertex(position)), position) != LongIntHashMap.NO_VALUE)
+                throw new IllegalArgumentException("edge(" + edges.edge(position) + "): is repeated");
+            addToAggregates(edges.lowVertex(position), edges.highVertex(position), edges.weight(position));
+        }
+    }
+
+    /**
+     * Creates a random connected graph of a given number of vertices and edges.
+     * GraphGenerator draws the same kind of graph, and others, much faster.
+     * @param vertices The number of vertices
+     * @param edges The number of edges to be randomly created.
+     * @param r The random object to be used
+     */
+    public Graph(int vertices, int edges, Random r) {
+        this(vertices, Math.max(vertices, edges));
+
+        for (int vertex = 1; vertex < vertices; vertex++) {
+            addEdge(vertex, r.nextInt(vertex), r.nextDouble());
+        }
+
+        for (int vertex = vertices; vertex < edges; vertex++) {
+            addEdge(r.nextInt(vertices), r.nextInt(vertices), r.nextDouble());
+        }
+    }
+
+    /**
+     * Adds a weighted undirected edge to the graph.
+     * An edge between two vertices already joined is handled as the duplicate policy says.
+     * The weight is stored as the weight type of the graph says: rounded to a float for FLOAT,
+     * while INT and SHORT graphs only accept integer weights in their range.
+     * Once the mst has been computed, adding an edge updates it incrementally
+     * in logarithmic time instead of causing it to be recomputed.
+     * @param vertex1
+     * @param vertex2
+     * @param weight
+     * @return True if the edge is correctly added, or replaces the weight of a heavier one.
+     */
+    public boolean addEdge(int vertex1, int vertex2, double weight) {
+        checkBounds(vertex1);
+        checkBounds(vertex2);
+        checkWeight(weight);
+        return append(vertex1, vertex2, weightType.convert(weight));
+    }
+
+    /**
+     * Adds a batch of edges to the graph, as addEdge would do one by one:
+     * the i-th edge joins vertices1[i] and vertices2[i] with weights[i].
+     * The whole batch is validated in a single pass before any edge is added.
+     * @param vertices1
+     * @param vertices2
+     * @param weights
+     * @return The amount of edges added or made lighter, as addEdge counts them.
+     */
+    public int addEdges(int[] vertices1, int[] vertices2, double[] weights) {
+        checkBatchLength(vertices1.length, vertices2.length, weights.length);
+        checkBatch(vertices1, vertices2, weights, 0, weights.length);
+        beginBatch(weights.length);
+        return appendBatch(vertices1, vertices2, weights, 0, weights.length);
+    }
+
+    /**
+     * Adds the edges remaining in three buffers, as addEdges does for arrays.
+     * The positions of the buffers are moved to their limits once the batch is added.
+     * @param vertices1
+     * @param vertices2
+     * @param weights
+     * @return The amount of edges added or made lighter, as addEdge counts them.
+     */
+    public int addEdges(IntBuffer vertices1, IntBuffer vertices2, DoubleBuffer weights) {
+        int size = weights.remaining();
+        checkBatchLength(vertices1.remaining(), vertices2.remaining(), size);
+
+        // Buffers are copied in chunks, twice: once to validate them and once to add them
+        int chunk = Math.min(size, BATCH_CHUNK);
+        int[] chunk1 = new int[chunk], chunk2 = new int[chunk];
+        double[] chunkWeights = new double[chunk];
+        for (int offset = 0; offset < size; offset += chunk) {
+            int length = Math.min(chunk, size - offset);
+            vertices1.get(vertices1.position() + offset, chunk1, 0, length);
+            vertices2.get(vertices2.position() + offset, chunk2, 0, length);
+            weights.get(weights.position() + offset, chunkWeights, 0, length);
+            checkBatch(chunk1, chunk2, chunkWeights, 0, length);
+        }
+
+        beginBatch(size);
+        int added = 0;
+        for (int offset = 0; offset < size; offset += chunk) {
+            int length = Math.min(chunk, size - offset);
+            vertices1.get(chunk1, 0, length);
+            vertices2.get(chunk2, 0, length);
+            weights.get(chunkWeights, 0, length);
+            added += appendBatch(chunk1, chunk2, chunkWeights, 0, length);
+        }
+        return added;
+    }
+
+    /**
+     * Adds a batch of edges to the graph, as addEdge would do one by one.
+     * The whole batch is validated before any edge is added.
+     * @param batch
+     * @return The amount of edges added or made lighter, as addEdge counts them.
+     */
+    int addEdges(EdgeList batch) {
+        for (int position = 0; position < batch.size(); position++) {
+            checkBounds(batch.lowVertex(position));
+            checkBounds(batch.highVertex(position));
+            checkWeight(batch.weight(position));
+            weightType.convert(batch.weight(position));
+        }
+
+        beginBatch(batch.size());
+        int added = 0;
+        for (int position = 0; position < batch.size(); position++)
+            if (storeEdge(batch.lowVertex(position), batch.highVertex(position), weightType.convert(batch.weight(position))))
+                added++;
+        if (added > 0) {
+            adjacencyIndex = null;
+            forest = null;
+        }
+        return added;
+    }
+
+    /**
+     * Weights order the edges, so they must be non negative numbers.
+     */
+    private static void checkWeight(double weight) {
+        if (Double.isNaN(weight))
+            throw new IllegalArgumentException("weight(" + weight + "): Weight must be a number");
+        if (weight < 0)
+            throw new IllegalArgumentException("weight(" + weight + "): Weight must not be negative");
+    }
+
+    private static void checkBatchLength(int vertices1, int vertices2, int weights) {
+        if (vertices1 != weights || vertices2 != weights)
+            throw new IllegalArgumentException("batch(" + vertices1 + ", " + vertices2 + ", " + weights + "): vertices and weights must have the same length");
+    }
+
+    /**
+     * Reduces the batch to its extreme values, which the JIT can vectorize,
+     * and only looks for the offending edge if they are out of range.
+     */
+    private void checkBatch(int[] vertices1, int[] vertices2, double[] weights, int from, int to) {
+        int minVertex = 0, maxVertex = 0;
+        double minWeight = 0;
+        for (int position = from; position < to; position++) {
+            minVertex = Math.min(minVertex, Math.min(vertices1[position], vertices2[position]));
+            maxVertex = Math.max(maxVertex, Math.max(vertices1[position], vertices2[position]));
+            minWeight = Math.min(minWeight, weights[position]);
+        }
+        if (from == to || (minVertex >= 0 && maxVertex < amountOfVertex && minWeight >= 0 && !weightType.isIntegral()))
+            return;
+
+        for (int position = from; position < to; position++) {
+            checkBounds(vertices1[position]);
+            checkBounds(vertices2[position]);
+            checkWeight(weights[position]);
+            weightType.convert(weights[position]);
+        }
+    }
+
+    private void beginBatch(int size) {
+        // Large batches are cheaper to solve from scratch than to apply one by one
+        if (size > amountOfVertex) {
+            mst = null;
+            dynamicMst = null;
+        }
+        prepareMinimumSpanningTree(size);
+        edges.ensureCapacity(edges.size() + size);
+    }
+
+    /**
+     * Graphs with parallel edges have no pairs to look up, so their batches are copied
+     * column by column. Either way, the adjacency index is dropped once per batch and
+     * the mst is only updated if it is still kept.
+     */
+    private int appendBatch(int[] vertices1, int[] vertices2, double[] weights, int from, int to) {
+        int added = 0;
+        if (duplicatePolicy == DuplicatePolicy.ALLOW_MULTI) {
+            int first = edges.size();
+            edges.addAll(vertices1, vertices2, weights, from, to);
+            for (int position = first; position < edges.size(); position++) {
+                int vertex1 = edges.lowVertex(position), vertex2 = edges.highVertex(position);
+                addToAggregates(vertex1, vertex2, edges.weight(position));
+                if (components != null)
+                    components.union(vertex1, vertex2);
+                if (parallelPositions != null)
+                    indexPosition(position);
+                if (dynamicMst != null && dynamicMst.addEdge(vertex1, vertex2, edges.weight(position)))
+                    mst = null;
+            }
+            added = to - from;
+        } else {
+            for (int position = from; position < to; position++)
+                if (storeEdge(vertices1[position], vertices2[position], weightType.convert(weights[position])))
+                    added++;
+        }
+        if (added > 0) {
+            adjacencyIndex = null;
+            forest = null;
+        }
+        return added;
+    }
+
+    private boolean append(int vertex1, int vertex2, double weight) {
+        prepareMinimumSpanningTree(1);
+        if (!storeEdge(vertex1, vertex2, weight))
+            return false;
+        adjacencyIndex = null;
+        forest = null;
+        return true;
+    }
+
+    /**
+     * Stores an edge as the duplicate policy says, keeping the aggregates, the components
+     * and the mst, if it is kept, up to date.
+     * @return True if the edge was added, or made a repeated edge lighter.
+     */
+    private boolean storeEdge(int vertex1, int vertex2, double weight) {
+        if (duplicatePolicy != DuplicatePolicy.ALLOW_MULTI) {
+            long key = keyOf(vertex1, vertex2);
+            int position = edgePositions.putIfAbsent(key, edges.size());
+            if (position != LongIntHashMap.NO_VALUE) {
+                if (duplicatePolicy == DuplicatePolicy.KEEP_FIRST)
+                    return false;
+                double oldWeight = edges.weight(position);
+                if (weight >= oldWeight)
+                    return false;
+                edges.setWeight(position, weight);
+                totalWeight += weight - oldWeight;
+                minWeight = Math.min(minWeight, weight);
+                // The maximum might have been this edge, it is looked for again when asked
+                if (oldWeight == maxWeight)
+                    maxWeight = Double.NaN;
+                if (dynamicMst != null && dynamicMst.updateWeight(vertex1, vertex2, oldWeight, weight))
+                    mst = null;
+                return true;
+            }
+        }
+        edges.add(vertex1, vertex2, weight);
+        if (parallelPositions != null)
+            indexPosition(edges.size() - 1);
+        addToAggregates(vertex1, vertex2, weight);
+        if (components != null)
+            components.union(vertex1, vertex2);
+        if (dynamicMst != null && dynamicMst.addEdge(vertex1, vertex2, weight))
+            mst = null;
+        return true;
+    }
+
+    private void addToAggregates(int vertex1, int vertex2, double weight) {
+        totalWeight += weight;
+        minWeight = Math.min(minWeight, weight);
+        maxWeight = Math.max(maxWeight, weight);
+        if (vertex1 == vertex2)
+            amountOfLoops++;
+    }
+
+    /**
+     * Removes the edge between two vertices, or the heaviest of them in graphs with parallel edges.
+     * Once the mst has been computed, it is updated instead of recomputed: the edge that
+     * replaces a removed tree edge is looked for among the edges of the smaller of the two
+     * trees left, see DynamicMinimumSpanningTree. The first removal indexes the edges
+     * of the graph for that, in O(E log E).
+     * @param vertex1
+     * @param vertex2
+     * @return True if there was an edge between the two vertices.
+     */
+    public boolean removeEdge(int vertex1, int vertex2) {
+        int position = positionOf(vertex1, vertex2);
+        if (position == LongIntHashMap.NO_VALUE)
+            return false;
+        prepareMinimumSpanningTreeForRemoval();
+        double weight = edges.weight(position);
+        removePosition(position);
+
+        totalWeight -= weight;
+        if (vertex1 == vertex2)
+            amountOfLoops--;
+        if (weight == minWeight)
+            minWeight = Double.NaN;
+        if (weight == maxWeight)
+            maxWeight = Double.NaN;
+        adjacencyIndex = null;
+        components = null;
+        forest = null;
+        if (dynamicMst != null && dynamicMst.removeEdge(vertex1, vertex2, weight))
+            mst = null;
+        return true;
+    }
+
+    /**
+     * Changes the weight of the edge between two vertices, or of the heaviest of them in graphs
+     * with parallel edges. The weight is validated like addEdge does.
+     * Once the mst has been computed, it is updated instead of recomputed.
+     * @param vertex1
+     * @param vertex2
+     * @param weight
+     * @return True if there is an edge between the two vertices.
+     */
+    public boolean updateWeight(int vertex1, int vertex2, double weight) {
+        checkWeight(weight);
+        weight = weightType.convert(weight);
+        int position = positionOf(vertex1, vertex2);
+        if (position == LongIntHashMap.NO_VALUE)
+            return false;
+        double oldWeight = edges.weight(position);
+        if (weight == oldWeight)
+            return true;
+        if (weight > oldWeight)
+            prepareMinimumSpanningTreeForRemoval();
+        else
+            prepareMinimumSpanningTree(0);
+        edges.setWeight(position, weight);
+
+        totalWeight += weight - oldWeight;
+        // The old weight might have been an extreme, it is looked for again when asked
+        if (weight < oldWeight) {
+            minWeight = Math.min(minWeight, weight);
+            if (oldWeight == maxWeight)
+                maxWeight = Double.NaN;
+        } else {
+            maxWeight = Math.max(maxWeight, weight);
+            if (oldWeight == minWeight)
+                minWeight = Double.NaN;
+        }
+        adjacencyIndex = null;
+        if (dynamicMst != null && dynamicMst.updateWeight(vertex1, vertex2, oldWeight, weight))
+            mst = null;
+        return true;
+    }
+
+    /**
+     * The position of the edge between two vertices, the heaviest one if there are parallel edges.
+     */
+    private int positionOf(int vertex1, int vertex2) {
+        checkBounds(vertex1);
+        checkBounds(vertex2);
+        if (duplicatePolicy != DuplicatePolicy.ALLOW_MULTI)
+            return edgePositions.get(keyOf(vertex1, vertex2));
+        if (parallelPositions == null)
+            indexParallelEdges();
+        int heaviest = edgePositions.get(keyOf(vertex1, vertex2));
+        for (int position = heaviest; position != LongIntHashMap.NO_VALUE; position = parallelPositions[position])
+            if (edges.weight(position) > edges.weight(heaviest))
+                heaviest = position;
+        return heaviest;
+    }
+
+    /**
+     * Graphs with parallel edges only index their vertex pairs once an edge is looked up:
+     * edgePositions holds the first position of every pair and parallelPositions links
+     * each position to the next one with the same pair, or NO_VALUE.
+     */
+    private void indexParallelEdges() {
+        parallelPositions = new int[Math.max(16, edges.size())];
+        for (int position = 0; position < edges.size(); position++)
+            indexPosition(position);
+    }
+
+    private void indexPosition(int position) {
+        if (position == parallelPositions.length)
+            parallelPositions = Arrays.copyOf(parallelPositions, (int) Math.min(EdgeList.MAX_CAPACITY, 2L * position));
+        long key = keyOf(edges.lowVertex(position), edges.highVertex(position));
+        parallelPositions[position] = edgePositions.get(key);
+        edgePositions.put(key, position);
+    }
+
+    private boolean indexesPairs() {
+        return duplicatePolicy != DuplicatePolicy.ALLOW_MULTI || parallelPositions != null;
+    }
+
+    /**
+     * Removes the edge at a position, and the last edge, which takes its place, follows it in the pair index.
+     */
+    private void removePosition(int position) {
+        int last = edges.size() - 1;
+        relinkPosition(position, parallelPositions == null ? LongIntHashMap.NO_VALUE : parallelPositions[position]);
+        if (position != last) {
+            relinkPosition(last, position);
+            if (parallelPositions != null)
+                parallelPositions[position] = parallelPositions[last];
+        }
+        edges.remove(position);
+    }
+
+    /**
+     * Makes the pair index point to replacement wherever it pointed to position.
+     */
+    private void relinkPosition(int position, int replacement) {
+        long key = keyOf(edges.lowVertex(position), edges.highVertex(position));
+        int first = edgePositions.get(key);
+        if (first == position) {
+            if (replacement == LongIntHashMap.NO_VALUE)
+                edgePositions.remove(key);
+            else
+                edgePositions.put(key, replacement);
+            return;
+        }
+        int previous = first;
+        while (parallelPositions[previous] != position)
+            previous = parallelPositions[previous];
+        parallelPositions[previous] = replacement;
+    }
+
+    /**
+     * Once the mst is known, it is kept up to date by a dynamic tree, built from it right
+     * before the first change to the graph, and then told about every change.
+     * Graphs whose indexed edges would grow past what the dynamic tree can hold recompute the mst instead.
+     * @param added The amount of edges the change may add
+     */
+    private void prepareMinimumSpanningTree(int added) {
+        if (dynamicMst != null && dynamicMst.indexesEdges()
+                && (long) edges.size() + added > DynamicMinimumSpanningTree.MAX_EDGES) {
+            mst = null;
+            dynamicMst = null;
+        } else if (mst != null && dynamicMst == null) {
+            dynamicMst = new DynamicMinimumSpanningTree(amountOfVertex, mst);
+        }
+    }
+
+    /**
+     * Removing an edge, or making it heavier, may need an edge out of the forest to replace it,
+     * so the dynamic tree indexes the edges of the graph the first time, right before the change.
+     */
+    private void prepareMinimumSpanningTreeForRemoval() {
+        prepareMinimumSpanningTree(0);
+        if (dynamicMst == null || dynamicMst.indexesEdges())
+            return;
+        if (edges.size() > DynamicMinimumSpanningTree.MAX_EDGES) {
+            mst = null;
+            dynamicMst = null;
+        } else {
+            dynamicMst.indexEdges(edges);
+        }
+    }
+
+    private static long keyOf(int vertex1, int vertex2) {
+        return (long) Math.min(vertex1, vertex2) << 32 | Math.max(vertex1, vertex2);
+    }
+
+    /**
+     * If the graph is connected.
+     * @return True if the graph is made by one single connected component.
+     */
+    public boolean isConnected() {
+        if (isEmpty()) return false;
+        return amountOfComponents() == 1;
+    }
+
+    /**
+     * The amount of connected components. While the mst is kept up to date it is answered
+     * from the dynamic tree, whose forest has a tree per component. Otherwise it is answered
+     * from a union-find of the vertices, built on the first call and then kept up to date as
+     * edges are added; a union-find can not split its sets, so after an edge is removed it
+     * is built again on the next call, in O(E).
+     * @return
+     */
+    public int amountOfComponents() {
+        if (dynamicMst != null)
+            return amountOfVertex - dynamicMst.size();
+        if (components == null) {
+            components = new DisjointSets(amountOfVertex);
+            for (int position = 0; position < edges.size(); position++)
+                components.union(edges.lowVertex(position), edges.highVertex(position));
+        }
+        return components.amountOfSets();
+    }
+
+    /**
+     * @return How the weights of the edges are stored.
+     */
+    public WeightType weightType() {
+        return weightType;
+    }
+
+    /**
+     * @return What the graph does with an edge between two vertices already joined.
+     */
+    public DuplicatePolicy duplicatePolicy() {
+        return duplicatePolicy;
+    }
+
+    /**
+     * The amount of vertices in the graph.
+     * @return the graph size.
+     */
+    public int amountOfVertex() {
+        return amountOfVertex;
+    }
+
+    /**
+     *
+     * @return the amount of edges in the graph.
+     */
+    public int amountOfEdges() {
+        return edges.size();
+    }
+
+    /**
+     * A sorted list of all the edges in the graph.
+     * @return
+     */
+    public List<Edge> edges() {
+        return sortedEdges().toList();
+    }
+
+    /**
+     * The edge store of the graph, in its current order.
+     */
+    EdgeList edgeList() {
+        return edges;
+    }
+
+    /**
+     * The CSR adjacency index of the graph, built on the first call after the graph changes.
+     */
+    AdjacencyIndex adjacencyIndex() {
+        if (adjacencyIndex == null)
+            adjacencyIndex = new AdjacencyIndex(amountOfVertex, edges);
+        return adjacencyIndex;
+    }
+
+    /**
+     * The edge store of the graph, sorted in place if needed.
+     */
+    EdgeList sortedEdges() {
+        int[] order = edges.sortWithOrder();
+        if (order != null && indexesPairs()) {
+            // The pair index follows the edges to their new positions, without hashing them again
+            int[] newPositions = new int[order.length];
+            for (int position = 0; position < order.length; position++)
+                newPositions[order[position]] = position;
+            edgePositions.replaceValues(newPositions);
+            if (parallelPositions != null) {
+                int[] newParallelPositions = new int[parallelPositions.length];
+                for (int position = 0; position < order.length; position++) {
+                    int next = parallelPositions[position];
+                    newParallelPositions[newPositions[position]] = next == LongIntHashMap.NO_VALUE ? next : newPositions[next];
+                }
+                parallelPositions = newParallelPositions;
+            }
+        }
+        return edges;
+    }
+
+    private void checkBounds(int vertex) {
+        if (isEmpty())
+            throw new IndexOutOfBoundsException("vertex(" + vertex + "): is out of range {-}");
+        if (!containsVertex(vertex))
+            throw new IndexOutOfBoundsException("vertex(" + vertex + "): is out of range {0.." + (amountOfVertex - 1) + "}");
+    }
+
+    /**
+     *
+     * @param vertex
+     * @return true if the specified vertex is contained in the graph
+     */
+    public boolean containsVertex(int vertex) {
+        return vertex >= 0 && vertex < amountOfVertex;
+    }
+
+    public boolean isEmpty() {
+        return amountOfVertex == 0;
+    }
+
+    /**
+     * Get the graphs' minimum spanning tree as a list of edges.
+     * The first time, graphs with at least PRIM_DENSITY_THRESHOLD edges per vertex are solved with Prim,
+     * the others, and those too large for an adjacency index, with Kruskal. Both return the same tree.
+     * @return
+     */
+    public List<Edge> getMinimumSpanningTree(){
+        if (mst != null)
+            return mst;
+        mst = dynamicMst != null ? dynamicMst.edges()
+                : isDense() ? Prim.minimumSpanningTree(this) : Kruskal.minimumSpanningTree(this);
+        forest = null;
+        mstIndex = null;
+        mstWeight = 0;
+        for (Edge edge : mst)
+            mstWeight += edge.weight();
+        return mst;
+    }
+
+    /**
+     * The weight of the minimum spanning tree, cached with it.
+     * @return
+     */
+    public double minimumSpanningTreeWeight() {
+        getMinimumSpanningTree();
+        return mstWeight;
+    }
+
+    /**
+     * Get the graphs' minimum spanning forest: the minimum spanning tree of every
+     * connected component, with the component of each vertex, the weight of each tree
+     * and the amount of edges of each component. Cached with the minimum spanning tree,
+     * until an edge is added or removed.
+     * @return
+     */
+    public SpanningForest getMinimumSpanningForest() {
+        List<Edge> tree = getMinimumSpanningTree();
+        if (forest == null)
+            forest = SpanningForest.of(amountOfVertex, tree, edges);
+        return forest;
+    }
+
+    /**
+     * The bottleneck query index of the minimum spanning tree, cached with it.
+     * @return
+     */
+    public MinimumSpanningTreeIndex getMinimumSpanningTreeIndex() {
+        List<Edge> tree = getMinimumSpanningTree();
+        if (mstIndex == null)
+            mstIndex = new MinimumSpanningTreeIndex(amountOfVertex, tree);
+        return mstIndex;
+    }
+
+    private boolean isDense() {
+        return edges.size() >= (long) PRIM_DENSITY_THRESHOLD * amountOfVertex
+                && 2L * edges.size() <= AdjacencyIndex.MAX_ENTRIES;
+    }
+
+    @Override
+    public String toString() {
+        return "Graph { " + amountOfVertex + " vertices; " + amountOfEdges() + " edges; total weight = " + totalWeight() + " }";
+    }
+
+    /**
+     * Return the sum of all the edges' weight, kept up to date as edges are added.
+     * @return
+     */
+    public double totalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * @return The weight of the lightest edge, or NaN if there are no edges.
+     */
+    public double minWeight() {
+        if (edges.size() == 0)
+            return Double.NaN;
+        if (Double.isNaN(minWeight)) {
+            minWeight = Double.POSITIVE_INFINITY;
+            for (int position = 0; position < edges.size(); position++)
+                minWeight = Math.min(minWeight, edges.weight(position));
+        }
+        return minWeight;
+    }
+
+    /**
+     * @return The weight of the heaviest edge, or NaN if there are no edges.
+     */
+    public double maxWeight() {
+        if (edges.size() == 0)
+            return Double.NaN;
+        if (Double.isNaN(maxWeight)) {
+            maxWeight = Double.NEGATIVE_INFINITY;
+            for (int position = 0; position < edges.size(); position++)
+                maxWeight = Math.max(maxWeight, edges.weight(position));
+        }
+        return maxWeight;
+    }
+
+    /**
+     * @return The amount of edges that join a vertex with itself.
+     */
+    public int amountOfLoops() {
+        return amountOfLoops;
+    }
+}
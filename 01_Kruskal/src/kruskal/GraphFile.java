@@ -0,0 +1,137 @@
+package kruskal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Compact binary edge-list format for graphs, loaded through memory mapping
+ * so that no parsing or per-edge object allocation is needed.
+ *
+ * All values are little endian. The file starts with a header of HEADER_SIZE bytes:
+ *   int  MAGIC
+ *   int  VERSION
+ *   int  amount of vertices
+ *   int  flags (SORTED if the records are ordered like Edge.compareTo)
+ *   long amount of edges
+ * followed by one RECORD_SIZE bytes record per edge:
+ *   int lowVertex, int highVertex, double weight
+ */
+public class GraphFile {
+
+    public static final int MAGIC = 0x4B52534B;
+    public static final int VERSION = 1;
+    public static final int SORTED = 1;
+    public static final int HEADER_SIZE = 24;
+    public static final int RECORD_SIZE = 16;
+
+    private static final int RECORDS_PER_WINDOW = Integer.MAX_VALUE / RECORD_SIZE;
+    private static final int RECORDS_PER_WRITE = 1 << 16;
+
+    /**
+     * Write a graph, with its edges sorted and flagged as such.
+     * @param graph The graph to be written
+     * @param path The file to be created or overwritten
+     */
+    public static void write(Graph graph, Path path) throws IOException {
+        EdgeList edges = graph.sortedEdges();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(RECORDS_PER_WRITE * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(graph.amountOfVertex()).putInt(SORTED).putLong(edges.size());
+            for (int position = 0; position < edges.size(); position++) {
+                if (buffer.remaining() < RECORD_SIZE)
+                    drain(buffer, channel);
+                buffer.putInt(edges.lowVertex(position)).putInt(edges.highVertex(position)).putDouble(edges.weight(position));
+            }
+            drain(buffer, channel);
+        }
+    }
+
+    /**
+     * Load a graph by memory mapping its file.
+     * If the file is flagged as sorted, the edges are never sorted again.
+     * @param path The file to be read
+     * @return The graph stored in the file
+     * @throws IOException If the file can not be read or is not a valid graph file
+     */
+    public static Graph read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, path);
+            if (header.amountOfEdges > Integer.MAX_VALUE)
+                throw new IOException(path + ": unsupported amount of edges " + header.amountOfEdges);
+
+            EdgeList edges = new EdgeList((int) header.amountOfEdges);
+            for (long first = 0; first < header.amountOfEdges; first += RECORDS_PER_WINDOW) {
+                int records = (int) Math.min(RECORDS_PER_WINDOW, header.amountOfEdges - first);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + first * RECORD_SIZE, (long) records * RECORD_SIZE);
+                window.order(ByteOrder.LITTLE_ENDIAN);
+                for (int record = 0; record < records; record++)
+                    edges.add(window.getInt(), window.getInt(), window.getDouble());
+            }
+            if (header.sorted && !edges.isSorted())
+                throw new IOException(path + ": flagged as sorted, but its edges are not");
+
+            try {
+                return new Graph(header.amountOfVertex, edges);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new IOException(path + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * The header of a graph file.
+     */
+    static class Header {
+        final int amountOfVertex;
+        final boolean sorted;
+        final long amountOfEdges;
+
+        Header(int amountOfVertex, boolean sorted, long amountOfEdges) {
+            this.amountOfVertex = amountOfVertex;
+            this.sorted = sorted;
+            this.amountOfEdges = amountOfEdges;
+        }
+    }
+
+    /**
+     * Read and validate the header of a graph file, checking that the file holds
+     * exactly the amount of records it declares.
+     */
+    static Header readHeader(FileChannel channel, Path path) throws IOException {
+        if (channel.size() < HEADER_SIZE)
+            throw new IOException(path + ": too short to be a graph file");
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt() != MAGIC)
+            throw new IOException(path + ": not a graph file");
+        int version = header.getInt();
+        if (version != VERSION)
+            throw new IOException(path + ": unsupported version " + version);
+        int amountOfVertex = header.getInt();
+        if (amountOfVertex < 0)
+            throw new IOException(path + ": negative amount of vertices " + amountOfVertex);
+        boolean sorted = (header.getInt() & SORTED) != 0;
+        long amountOfEdges = header.getLong();
+        if (amountOfEdges < 0 || amountOfEdges > (Long.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE)
+            throw new IOException(path + ": unsupported amount of edges " + amountOfEdges);
+        if (channel.size() != HEADER_SIZE + amountOfEdges * RECORD_SIZE)
+            throw new IOException(path + ": expected " + amountOfEdges + " edges, size is " + channel.size() + " bytes");
+        return new Header(amountOfVertex, sorted, amountOfEdges);
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+}
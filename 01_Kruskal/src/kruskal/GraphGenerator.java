@@ -0,0 +1,285 @@
+package kruskal;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Parallel generator of random graphs, for benchmarks.
+ *
+ * The edges are drawn into primitive arrays by a fixed amount of chunks, each one
+ * with its own SplittableRandom split from the seed, and then added to the Graph
+ * as a single batch. The same seed and amount of chunks always give the same graph,
+ * whatever the amount of threads. Repeated vertex pairs are dropped by the Graph,
+ * so it can end up with fewer edges than requested.
+ */
+public class GraphGenerator {
+
+    static final int DEFAULT_CHUNKS = 64;
+    private static final double RMAT_A = 0.57, RMAT_B = 0.19, RMAT_C = 0.19;
+    private static final int GEOMETRIC_VERTICES_PER_CELL = 4;
+
+    /**
+     * The random graph models.
+     */
+    public enum Model {
+        /**
+         * A random spanning tree, where every vertex is joined to a lower one, plus random extra edges
+         * between distinct vertices, like Graph(int, int, Random) without its loops. Always connected if there are at least vertices - 1 edges.
+         */
+        TREE_PLUS_EXTRAS,
+        /**
+         * Erdos-Renyi G(n, m): edges between uniformly random pairs of distinct vertices.
+         */
+        ERDOS_RENYI,
+        /**
+         * A 2D grid where every vertex is joined to its right and bottom neighbours.
+         * The amount of edges is given by the grid, the requested one is ignored.
+         */
+        GRID,
+        /**
+         * Random points in the unit square, joined to random points in the same or a
+         * neighbouring cell, weighted by their euclidean distance.
+         */
+        GEOMETRIC,
+        /**
+         * R-MAT power-law graph, with the usual (0.57, 0.19, 0.19, 0.05) partition.
+         */
+        RMAT
+    }
+
+    private final Model model;
+    private final int amountOfVertex;
+    private final SplittableRandom[] randoms;
+    private final ForkJoinPool pool;
+    private final int[] vertices1;
+    private final int[] vertices2;
+    private final double[] weights;
+
+    private GraphGenerator(Model model, int amountOfVertex, int amountOfEdges, long seed, int chunks, ForkJoinPool pool) {
+        this.model = model;
+        this.amountOfVertex = amountOfVertex;
+        this.pool = pool;
+        this.randoms = new SplittableRandom[chunks];
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int chunk = 0; chunk < chunks; chunk++)
+            randoms[chunk] = root.split();
+        int size = amountOfVertex < 2 ? 0 : model == Model.GRID ? 2 * amountOfVertex : amountOfEdges;
+        this.vertices1 = new int[size];
+        this.vertices2 = new int[size];
+        this.weights = new double[size];
+    }
+
+    /**
+     * Generates a random graph with DEFAULT_CHUNKS chunks on the common pool.
+     * @param model
+     * @param amountOfVertex
+     * @param amountOfEdges The amount of edges to draw
+     * @param seed
+     * @return The graph
+     */
+    public static Graph generate(Model model, int amountOfVertex, int amountOfEdges, long seed) {
+        return generate(model, amountOfVertex, amountOfEdges, seed, DEFAULT_CHUNKS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates a random graph.
+     * @param model
+     * @param amountOfVertex
+     * @param amountOfEdges The amount of edges to draw
+     * @param seed
+     * @param chunks The amount of independent random streams, which the graph depends on
+     * @param pool Where the chunks are drawn
+     * @return The graph
+     */
+    public static Graph generate(Model model, int amountOfVertex, int amountOfEdges, long seed, int chunks, ForkJoinPool pool) {
+        if (amountOfVertex < 0)
+            throw new IllegalArgumentException("amountOfVertex(" + amountOfVertex + "): must be greater or equal than 0");
+        if (amountOfEdges < 0)
+            throw new IllegalArgumentException("amountOfEdges(" + amountOfEdges + "): must be greater or equal than 0");
+        if (chunks < 1)
+            throw new IllegalArgumentException("chunks(" + chunks + "): must be greater than 0");
+        return new GraphGenerator(model, amountOfVertex, amountOfEdges, seed, chunks, pool).generate();
+    }
+
+    private Graph generate() {
+        switch (model) {
+            case TREE_PLUS_EXTRAS: parallelFor(weights.length, this::treePlusExtras); break;
+            case ERDOS_RENYI: parallelFor(weights.length, this::erdosRenyi); break;
+            case GRID: return grid();
+            case GEOMETRIC: geometric(); break;
+            case RMAT: parallelFor(weights.length, this::rmat); break;
+        }
+        Graph graph = new Graph(amountOfVertex, weights.length);
+        graph.addEdges(vertices1, vertices2, weights);
+        return graph;
+    }
+
+    private void treePlusExtras(SplittableRandom random, int from, int to) {
+        for (int edge = from; edge < to; edge++) {
+            if (edge < amountOfVertex - 1) {
+                vertices1[edge] = edge + 1;
+                vertices2[edge] = random.nextInt(edge + 1);
+            } else {
+                randomPair(random, edge);
+            }
+            weights[edge] = random.nextDouble();
+        }
+    }
+
+    private void erdosRenyi(SplittableRandom random, int from, int to) {
+        for (int edge = from; edge < to; edge++) {
+            randomPair(random, edge);
+            weights[edge] = random.nextDouble();
+        }
+    }
+
+    /**
+     * Draws a uniformly random pair of distinct vertices into the given edge.
+     */
+    private void randomPair(SplittableRandom random, int edge) {
+        int vertex1 = random.nextInt(amountOfVertex), vertex2 = random.nextInt(amountOfVertex - 1);
+        vertices1[edge] = vertex1;
+        vertices2[edge] = vertex2 < vertex1 ? vertex2 : vertex2 + 1;
+    }
+
+    private void rmat(SplittableRandom random, int from, int to) {
+        int scale = 32 - Integer.numberOfLeadingZeros(amountOfVertex - 1);
+        for (int edge = from; edge < to; edge++) {
+            int vertex1, vertex2;
+            do {
+                vertex1 = 0;
+                vertex2 = 0;
+                for (int bit = 1 << (scale - 1); bit != 0; bit >>>= 1) {
+                    double quadrant = random.nextDouble();
+                    if (quadrant >= RMAT_A + RMAT_B + RMAT_C) {
+                        vertex1 |= bit;
+                        vertex2 |= bit;
+                    } else if (quadrant >= RMAT_A + RMAT_B) {
+                        vertex1 |= bit;
+                    } else if (quadrant >= RMAT_A) {
+                        vertex2 |= bit;
+                    }
+                }
+            } while (vertex1 >= amountOfVertex || vertex2 >= amountOfVertex || vertex1 == vertex2);
+            vertices1[edge] = vertex1;
+            vertices2[edge] = vertex2;
+            weights[edge] = random.nextDouble();
+        }
+    }
+
+    private Graph grid() {
+        int columns = (int) Math.ceil(Math.sqrt(amountOfVertex));
+        // Slot 2v is the edge to the right of v, slot 2v + 1 the one below it; -1 marks a border
+        parallelFor(weights.length, (random, from, to) -> {
+            for (int slot = from; slot < to; slot++) {
+                int vertex = slot >>> 1;
+                int neighbour = (slot & 1) == 0 ? (vertex % columns == columns - 1 ? -1 : vertex + 1) : vertex + columns;
+                vertices1[slot] = vertex;
+                vertices2[slot] = neighbour < amountOfVertex ? neighbour : -1;
+                weights[slot] = random.nextDouble();
+            }
+        });
+
+        int size = 0;
+        for (int slot = 0; slot < weights.length; slot++) {
+            if (vertices2[slot] < 0) continue;
+            vertices1[size] = vertices1[slot];
+            vertices2[size] = vertices2[slot];
+            weights[size++] = weights[slot];
+        }
+        Graph graph = new Graph(amountOfVertex, size);
+        graph.addEdges(Arrays.copyOf(vertices1, size), Arrays.copyOf(vertices2, size), Arrays.copyOf(weights, size));
+        return graph;
+    }
+
+    private void geometric() {
+        if (weights.length == 0) return;
+        int side = Math.max(1, (int) Math.sqrt((double) amountOfVertex / GEOMETRIC_VERTICES_PER_CELL));
+        double[] x = new double[amountOfVertex], y = new double[amountOfVertex];
+        int[] cells = new int[amountOfVertex];
+        parallelFor(amountOfVertex, (random, from, to) -> {
+            for (int vertex = from; vertex < to; vertex++) {
+                x[vertex] = random.nextDouble();
+                y[vertex] = random.nextDouble();
+                cells[vertex] = (int) (y[vertex] * side) * side + (int) (x[vertex] * side);
+            }
+        });
+
+        // Vertices bucketed by cell: the ones of cell c are cellVertices[cellStart[c]..cellStart[c + 1])
+        int[] cellStart = new int[side * side + 1];
+        for (int cell : cells)
+            cellStart[cell + 1]++;
+        for (int cell = 0; cell < side * side; cell++)
+            cellStart[cell + 1] += cellStart[cell];
+        int[] next = Arrays.copyOf(cellStart, side * side);
+        int[] cellVertices = new int[amountOfVertex];
+        for (int vertex = 0; vertex < amountOfVertex; vertex++)
+            cellVertices[next[cells[vertex]]++] = vertex;
+
+        parallelFor(weights.length, (random, from, to) -> {
+            for (int edge = from; edge < to; edge++) {
+                int vertex1 = random.nextInt(amountOfVertex), vertex2;
+                do {
+                    // Neighbours past the border of the square are clamped back into it, so edges stay local
+                    int column = Math.min(side - 1, Math.max(0, cells[vertex1] % side + random.nextInt(3) - 1));
+                    int row = Math.min(side - 1, Math.max(0, cells[vertex1] / side + random.nextInt(3) - 1));
+                    int cell = row * side + column;
+                    int amount = cellStart[cell + 1] - cellStart[cell];
+                    vertex2 = amount == 0 ? vertex1 : cellVertices[cellStart[cell] + random.nextInt(amount)];
+                } while (vertex2 == vertex1);
+                vertices1[edge] = vertex1;
+                vertices2[edge] = vertex2;
+                weights[edge] = Math.hypot(x[vertex1] - x[vertex2], y[vertex1] - y[vertex2]);
+            }
+        });
+    }
+
+    /**
+     * Runs body over size items split in one range per chunk, with the random of that chunk.
+     */
+    private void parallelFor(int size, ChunkBody body) {
+        pool.invoke(new ParallelChunks(body, randoms, size, 0, randoms.length));
+    }
+
+    private interface ChunkBody {
+        void run(SplittableRandom random, int from, int to);
+    }
+
+    @SuppressWarnings("serial")
+    private static class ParallelChunks extends RecursiveAction {
+
+        private final ChunkBody body;
+        private final SplittableRandom[] randoms;
+        private final int size;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ParallelChunks(ChunkBody body, SplittableRandom[] randoms, int size, int fromChunk, int toChunk) {
+            this.body = body;
+            this.randoms = randoms;
+            this.size = size;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                body.run(randoms[fromChunk], start(fromChunk), start(toChunk));
+                return;
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ParallelChunks(body, randoms, size, fromChunk, middle),
+                    new ParallelChunks(body, randoms, size, middle, toChunk));
+        }
+
+        private int start(int chunk) {
+            return (int) ((long) size * chunk / randoms.length);
+        }
+    }
+}
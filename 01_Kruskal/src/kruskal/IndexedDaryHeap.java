@@ -0,0 +1,143 @@
+package kruskal;
+
+import java.util.Arrays;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Indexed d-ary min-heap of the integers {0..capacity-1}, supporting decrease-key.
+ * Every item has a primitive key made of a weight and a long tie breaker, compared
+ * lexicographically, so no boxing or comparator objects are involved.
+ */
+public class IndexedDaryHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int arity;
+    private final int[] heap;
+    private final int[] indexOf;
+    private final double[] weights;
+    private final long[] tieBreaks;
+    private int size;
+
+    /**
+     * @param capacity The items of the heap will be in {0..capacity-1}
+     * @param arity The amount of children of every node. Must be at least 2.
+     */
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity(" + capacity + "): capacity must not be negative");
+        if (arity < 2)
+            throw new IllegalArgumentException("arity(" + arity + "): arity must be at least 2");
+        this.arity = arity;
+        heap = new int[capacity];
+        indexOf = new int[capacity];
+        weights = new double[capacity];
+        tieBreaks = new long[capacity];
+        Arrays.fill(indexOf, ABSENT);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True if item is currently in the heap.
+     */
+    public boolean contains(int item) {
+        return indexOf[item] != ABSENT;
+    }
+
+    /**
+     * Insert item with the given key, or decrease its key if it is already in the heap.
+     * @return True if item was inserted or its key decreased.
+     */
+    public boolean offer(int item, double weight, long tieBreak) {
+        int index = indexOf[item];
+        if (index == ABSENT) {
+            index = size++;
+        } else if (compare(weight, tieBreak, weights[item], tieBreaks[item]) >= 0) {
+            return false;
+        }
+        weights[item] = weight;
+        tieBreaks[item] = tieBreak;
+        siftUp(item, index);
+        return true;
+    }
+
+    /**
+     * Remove the item with the least key. Its key is still available through weight and tieBreak.
+     * @return The removed item.
+     */
+    public int poll() {
+        if (size == 0)
+            throw new IllegalStateException("the heap is empty");
+        int least = heap[0];
+        indexOf[least] = ABSENT;
+        int last = heap[--size];
+        if (size > 0)
+            siftDown(last, 0);
+        return least;
+    }
+
+    /**
+     * @return The weight of the last key given to item.
+     */
+    public double weight(int item) {
+        return weights[item];
+    }
+
+    /**
+     * @return The tie breaker of the last key given to item.
+     */
+    public long tieBreak(int item) {
+        return tieBreaks[item];
+    }
+
+    private void siftUp(int item, int index) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (!less(item, heap[parent]))
+                break;
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(item, index);
+    }
+
+    private void siftDown(int item, int index) {
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size)
+                break;
+            int least = firstChild;
+            for (int child = firstChild + 1; child < Math.min(firstChild + arity, size); child++)
+                if (less(heap[child], heap[least]))
+                    least = child;
+            if (!less(heap[least], item))
+                break;
+            place(heap[least], index);
+            index = least;
+        }
+        place(item, index);
+    }
+
+    private void place(int item, int index) {
+        heap[index] = item;
+        indexOf[item] = index;
+    }
+
+    private boolean less(int item1, int item2) {
+        return compare(weights[item1], tieBreaks[item1], weights[item2], tieBreaks[item2]) < 0;
+    }
+
+    private static int compare(double weight1, long tieBreak1, double weight2, long tieBreak2) {
+        int byWeight = Double.compare(weight1, weight2);
+        return byWeight != 0 ? byWeight : Long.compare(tieBreak1, tieBreak2);
+    }
+}
@@ -0,0 +1,264 @@
+package kruskal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Implementation of the Kruskal algorithm.
+ */
+public class Kruskal {
+
+    /**
+     * Returns the minimum spanning tree of a Graph.
+     * If the graph is not connected (ie. it's made of multiple connected components),
+     * the minimum spanning tree returned is not complete.
+     * @param graph
+     * @return The list of edges that make the MST of the given graph
+     */
+    public static List<Edge> minimumSpanningTree(Graph graph) {
+        return collect(new MinimumSpanningTreeIterator(graph, graph.sortedEdges(), null));
+    }
+
+    /**
+     * Returns the minimum spanning tree of the graph made of the edges of a store,
+     * which is sorted in place first. The same as minimumSpanningTree for a Graph with
+     * those edges, for stores of any size, such as an OffHeapEdgeList.
+     * @param edges Edges between vertices from 0 to amountOfVertex - 1
+     * @param amountOfVertex
+     * @return The list of edges that make the MST of the graph
+     */
+    public static List<Edge> minimumSpanningTree(EdgeStore edges, int amountOfVertex) {
+        edges.sort();
+        List<Edge> minimumSpanningTree = new ArrayList<>();
+        DisjointSets set = new DisjointSets(amountOfVertex);
+        int vertex1, vertex2;
+        for (long position = 0; position < edges.amountOfEdges() && minimumSpanningTree.size() < amountOfVertex - 1; position++) {
+            vertex1 = edges.lowVertex(position);
+            vertex2 = edges.highVertex(position);
+            if (vertex1 != vertex2 && set.union(vertex1, vertex2))
+                minimumSpanningTree.add(edges.edge(position));
+        }
+        return minimumSpanningTree;
+    }
+
+    /**
+     * Returns the same minimum spanning tree as minimumSpanningTree, without sorting
+     * all the edges first: they are heapified in O(E) and only polled until the tree
+     * is complete. Faster on dense graphs, where most of the edges are never needed.
+     * The edges of the graph are left in their current order.
+     * @param graph
+     * @return The list of edges that make the MST of the given graph
+     */
+    public static List<Edge> lazyMinimumSpanningTree(Graph graph) {
+        return collect(iterator(graph));
+    }
+
+    /**
+     * Returns the edges of the minimum spanning tree of a Graph one at a time,
+     * in the same order as minimumSpanningTree, each one as soon as Kruskal accepts it.
+     * Unless the edges of the graph are already sorted, they are heapified and only
+     * polled on demand, so a consumer that stops early does not pay for the rest.
+     * The graph must not be modified while iterating.
+     * @param graph
+     * @return An iterator over the edges that make the MST of the given graph
+     */
+    public static Iterator<Edge> iterator(Graph graph) {
+        EdgeList edges = graph.edgeList();
+        return new MinimumSpanningTreeIterator(graph, edges, edges.isSorted() ? null : new EdgeHeap(edges));
+    }
+
+    /**
+     * A sequential, lazy stream over the edges of the minimum spanning tree of a Graph,
+     * backed by iterator(graph). For instance, stream(graph).limit(k) stops after k edges.
+     * @param graph
+     * @return A sorted stream of the edges that make the MST of the given graph
+     */
+    public static Stream<Edge> stream(Graph graph) {
+        return stream(iterator(graph));
+    }
+
+    static Stream<Edge> stream(Iterator<Edge> iterator) {
+        int characteristics = Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false);
+    }
+
+    /**
+     * Single-linkage clustering of the vertices of a Graph into k clusters: the Kruskal
+     * loop is stopped as soon as only k components are left, which is the same as
+     * removing the k-1 heaviest edges of the minimum spanning tree.
+     * If the graph has more than k connected components, each one is a cluster.
+     * @param graph
+     * @param k The amount of clusters, from 1 to the amount of vertices
+     * @return The cluster of each vertex and the spacing of the clustering
+     */
+    public static Clustering clustering(Graph graph, int k) {
+        if (k < 1 || k > graph.amountOfVertex())
+            throw new IllegalArgumentException("k(" + k + "): is out of range {1.." + graph.amountOfVertex() + "}");
+
+        EdgeList edges = graph.sortedEdges();
+        MinimumSpanningTreeIterator iterator = new MinimumSpanningTreeIterator(graph, edges, null);
+        DisjointSets set = iterator.set;
+        while (set.amountOfSets() > k && iterator.acceptPosition() >= 0);
+
+        // The next edge Kruskal would accept is the lightest one between two clusters
+        double spacing = Double.POSITIVE_INFINITY;
+        for (int position = iterator.nextPosition; position < edges.size() && set.amountOfSets() == k; position++) {
+            if (!set.areConnected(edges.lowVertex(position), edges.highVertex(position))) {
+                spacing = edges.weight(position);
+                break;
+            }
+        }
+
+        return new Clustering(set.labels(), set.amountOfSets(), spacing);
+    }
+
+    /**
+     * Returns the minimum spanning forest of a Graph: a minimum spanning tree for each
+     * of its connected components, with the component of every vertex and the weight
+     * of every tree, all from the same Kruskal run.
+     * @param graph
+     * @return The minimum spanning forest of the given graph
+     */
+    public static SpanningForest minimumSpanningForest(Graph graph) {
+        MinimumSpanningTreeIterator iterator = new MinimumSpanningTreeIterator(graph, graph.sortedEdges(), null);
+        return new SpanningForest(collect(iterator), iterator.set, graph.edgeList());
+    }
+
+    /**
+     * Answers offline whether each pair (vertices1[i], vertices2[i]) is connected by a path
+     * made only of edges lighter than thresholds[i]. The queries are sorted by threshold and
+     * answered during a single sweep of the sorted edges, right before the first edge that
+     * is not lighter than their threshold is joined.
+     * @param graph
+     * @param vertices1
+     * @param vertices2
+     * @param thresholds
+     * @return The answer of every query
+     */
+    public static boolean[] connectedUnderThreshold(Graph graph, int[] vertices1, int[] vertices2, double[] thresholds) {
+        if (vertices1.length != thresholds.length || vertices2.length != thresholds.length)
+            throw new IllegalArgumentException("queries(" + vertices1.length + ", " + vertices2.length + ", " + thresholds.length + "): vertices and thresholds must have the same length");
+
+        // Queries are stored like edges, so EdgeSorter orders them by threshold
+        EdgeList queries = new EdgeList(thresholds.length);
+        int[] order = new int[thresholds.length];
+        for (int query = 0; query < thresholds.length; query++) {
+            checkBounds(graph, vertices1[query]);
+            checkBounds(graph, vertices2[query]);
+            queries.add(vertices1[query], vertices2[query], thresholds[query]);
+            order[query] = query;
+        }
+        EdgeSorter.sort(queries, order, 0, order.length);
+
+        EdgeList edges = graph.sortedEdges();
+        DisjointSets set = new DisjointSets(graph.amountOfVertex());
+        boolean[] connected = new boolean[thresholds.length];
+        int position = 0;
+        for (int query : order) {
+            for (; position < edges.size() && edges.weight(position) < queries.weight(query); position++)
+                set.union(edges.lowVertex(position), edges.highVertex(position));
+            connected[query] = set.areConnected(queries.lowVertex(query), queries.highVertex(query));
+        }
+        return connected;
+    }
+
+    private static void checkBounds(Graph graph, int vertex) {
+        if (!graph.containsVertex(vertex))
+            throw new IndexOutOfBoundsException("vertex(" + vertex + "): is out of range {0.." + (graph.amountOfVertex() - 1) + "}");
+    }
+
+    private static List<Edge> collect(Iterator<Edge> iterator) {
+        List<Edge> minimumSpanningTree = new ArrayList<>();
+        while (iterator.hasNext())
+            minimumSpanningTree.add(iterator.next());
+
+        /*
+        CHECK FOR CONNECTION
+        if (minimumSpanningTree.size() != amountOfVertex - 1) {
+            System.err.println("Warning! Given graph is not connected. Incomplete MST returned.");
+        }
+        */
+
+        return minimumSpanningTree;
+    }
+
+    /**
+     * The Kruskal main loop, run one accepted edge at a time.
+     * Edges are taken in order either from a sorted edge list or from a heap over it.
+     */
+    static class MinimumSpanningTreeIterator implements Iterator<Edge> {
+
+        private final EdgeList edges;
+        private final EdgeHeap heap;
+        final DisjointSets set;
+        private int missingEdges;
+        int nextPosition = 0;
+        private Edge next = null;
+
+        MinimumSpanningTreeIterator(Graph graph, EdgeList edges, EdgeHeap heap) {
+            this.edges = edges;
+            this.heap = heap;
+            this.set = new DisjointSets(graph.amountOfVertex());
+            this.missingEdges = Math.max(0, graph.amountOfVertex() - 1);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                int position = acceptPosition();
+                if (position >= 0)
+                    next = edges.edge(position);
+            }
+            return next != null;
+        }
+
+        @Override
+        public Edge next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            Edge edge = next;
+            next = null;
+            return edge;
+        }
+
+        /**
+         * @return The amount of edges taken from the graph so far, accepted or not.
+         */
+        int takenEdges() {
+            return heap != null ? edges.size() - heap.size() : nextPosition;
+        }
+
+        /**
+         * Takes edges in order until one joins two components.
+         * @return The position of the accepted edge, or -1 if there are no more edges.
+         */
+        int acceptPosition() {
+            int vertex1, vertex2, position;
+            if (missingEdges == 0)
+                return -1;
+            while (heap != null ? !heap.isEmpty() : nextPosition < edges.size()) {
+                position = heap != null ? heap.poll() : nextPosition++;
+                vertex1 = edges.lowVertex(position);
+                vertex2 = edges.highVertex(position);
+
+                if (vertex1 == vertex2)
+                    continue;
+
+                if (set.union(vertex1, vertex2)) {
+                    missingEdges--;
+                    return position;
+                }
+            }
+            return -1;
+        }
+    }
+}
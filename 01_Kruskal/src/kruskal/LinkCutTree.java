@@ -0,0 +1,211 @@
+package kruskal;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Link-cut tree over the nodes {0..capacity-1}, representing a forest of unrooted trees.
+ * Every node has a key made of a weight and a long tie breaker; the tree can report
+ * the node with the greatest key on the path between two nodes.
+ * Link, cut, connected and pathMax all run in O(log n) amortized time.
+ *
+ * Preferred paths are kept in splay trees stored in parallel arrays; NONE marks
+ * a missing child or parent.
+ */
+public class LinkCutTree {
+
+    private static final int NONE = -1;
+
+    private final int[] left;
+    private final int[] right;
+    private final int[] parent;
+    private final boolean[] reversed;
+    private final int[] maxNode;
+    private final double[] weights;
+    private final long[] tieBreaks;
+    private final int[] stack;
+
+    /**
+     * Create a forest of capacity isolated nodes, whose keys are less than any other key.
+     * @param capacity The amount of nodes
+     */
+    public LinkCutTree(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity(" + capacity + "): capacity must not be negative");
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        reversed = new boolean[capacity];
+        maxNode = new int[capacity];
+        weights = new double[capacity];
+        tieBreaks = new long[capacity];
+        stack = new int[capacity];
+        for (int node = 0; node < capacity; node++) {
+            left[node] = right[node] = parent[node] = NONE;
+            maxNode[node] = node;
+            weights[node] = Double.NEGATIVE_INFINITY;
+            tieBreaks[node] = Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Change the key of a node.
+     */
+    public void setKey(int node, double weight, long tieBreak) {
+        access(node);
+        weights[node] = weight;
+        tieBreaks[node] = tieBreak;
+        pull(node);
+    }
+
+    /**
+     * @return The weight of the key of a node.
+     */
+    public double weight(int node) {
+        return weights[node];
+    }
+
+    /**
+     * @return The tie breaker of the key of a node.
+     */
+    public long tieBreak(int node) {
+        return tieBreaks[node];
+    }
+
+    /**
+     * Join two trees with an edge between node1 and node2.
+     * The two nodes must not be connected.
+     */
+    public void link(int node1, int node2) {
+        makeRoot(node1);
+        parent[node1] = node2;
+    }
+
+    /**
+     * Remove the edge between node1 and node2.
+     * @return False if the two nodes were not directly linked.
+     */
+    public boolean cut(int node1, int node2) {
+        makeRoot(node1);
+        access(node2);
+        if (left[node2] != node1 || left[node1] != NONE || right[node1] != NONE)
+            return false;
+        left[node2] = NONE;
+        parent[node1] = NONE;
+        pull(node2);
+        return true;
+    }
+
+    /**
+     * @return True if the two nodes are in the same tree.
+     */
+    public boolean connected(int node1, int node2) {
+        return node1 == node2 || findRoot(node1) == findRoot(node2);
+    }
+
+    /**
+     * The node with the greatest key on the path between two connected nodes, both included.
+     */
+    public int pathMax(int node1, int node2) {
+        makeRoot(node1);
+        access(node2);
+        return maxNode[node2];
+    }
+
+    private int findRoot(int node) {
+        access(node);
+        while (true) {
+            push(node);
+            if (left[node] == NONE) break;
+            node = left[node];
+        }
+        splay(node);
+        return node;
+    }
+
+    private void makeRoot(int node) {
+        access(node);
+        reversed[node] = !reversed[node];
+    }
+
+    /**
+     * Make the path from the root of the tree to node preferred, leaving node at the root of its splay tree.
+     */
+    private void access(int node) {
+        for (int child = NONE, current = node; current != NONE; child = current, current = parent[current]) {
+            splay(current);
+            right[current] = child;
+            pull(current);
+        }
+        splay(node);
+    }
+
+    private void splay(int node) {
+        int top = 0;
+        stack[top++] = node;
+        for (int current = node; !isSplayRoot(current); current = parent[current])
+            stack[top++] = parent[current];
+        while (top > 0)
+            push(stack[--top]);
+
+        while (!isSplayRoot(node)) {
+            int father = parent[node];
+            if (!isSplayRoot(father)) {
+                int grandFather = parent[father];
+                boolean zigZig = (left[grandFather] == father) == (left[father] == node);
+                rotate(zigZig ? father : node);
+            }
+            rotate(node);
+        }
+    }
+
+    private void rotate(int node) {
+        int father = parent[node];
+        int grandFather = parent[father];
+        if (!isSplayRoot(father)) {
+            if (left[grandFather] == father) left[grandFather] = node;
+            else right[grandFather] = node;
+        }
+        parent[node] = grandFather;
+
+        if (left[father] == node) {
+            left[father] = right[node];
+            if (right[node] != NONE) parent[right[node]] = father;
+            right[node] = father;
+        } else {
+            right[father] = left[node];
+            if (left[node] != NONE) parent[left[node]] = father;
+            left[node] = father;
+        }
+        parent[father] = node;
+        pull(father);
+        pull(node);
+    }
+
+    private boolean isSplayRoot(int node) {
+        int father = parent[node];
+        return father == NONE || (left[father] != node && right[father] != node);
+    }
+
+    private void push(int node) {
+        if (!reversed[node]) return;
+        int child = left[node];
+        left[node] = right[node];
+        right[node] = child;
+        if (left[node] != NONE) reversed[left[node]] = !reversed[left[node]];
+        if (right[node] != NONE) reversed[right[node]] = !reversed[right[node]];
+        reversed[node] = false;
+    }
+
+    private void pull(int node) {
+        int max = node;
+        if (left[node] != NONE && greater(maxNode[left[node]], max)) max = maxNode[left[node]];
+        if (right[node] != NONE && greater(maxNode[right[node]], max)) max = maxNode[right[node]];
+        maxNode[node] = max;
+    }
+
+    private boolean greater(int node1, int node2) {
+        int byWeight = Double.compare(weights[node1], weights[node2]);
+        return byWeight != 0 ? byWeight > 0 : tieBreaks[node1] > tieBreaks[node2];
+    }
+}
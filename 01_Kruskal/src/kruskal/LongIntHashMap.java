@@ -0,0 +1,188 @@
+package kruskal;
+
+import java.util.Arrays;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Open addressing hash map from primitive longs to primitive ints, with linear probing.
+ * It never boxes its entries and only allocates when it needs to grow.
+ * The table grows up to MAX_CAPACITY slots; adding a key beyond three quarters of it fails.
+ */
+class LongIntHashMap {
+
+    static final int NO_VALUE = -1;
+
+    private static final long FREE = Long.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY = 16;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private final int maxCapacity;
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize Amount of keys the map can hold before growing.
+     */
+    LongIntHashMap(int expectedSize) {
+        this(expectedSize, MAX_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize Amount of keys the map can hold before growing.
+     * @param maxCapacity The largest table the map can grow to, a power of two.
+     */
+    LongIntHashMap(int expectedSize, int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+        allocate(Math.min(maxCapacity, tableSizeFor(expectedSize)));
+    }
+
+    /**
+     * Maps the key to the value, unless it is already mapped.
+     * @param key Must not be Long.MIN_VALUE.
+     * @param value
+     * @return The value already mapped to the key, or NO_VALUE if the key was not in the map.
+     * @throws IllegalStateException If the key is new and the map can not grow to hold it.
+     */
+    int putIfAbsent(long key, int value) {
+        int slot = slotOf(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key)
+                return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        insert(slot, key, value);
+        return NO_VALUE;
+    }
+
+    /**
+     * Maps the key to the value, replacing the value already mapped to it.
+     * @param key Must not be Long.MIN_VALUE.
+     * @param value
+     * @throws IllegalStateException If the key is new and the map can not grow to hold it.
+     */
+    void put(long key, int value) {
+        int slot = slotOf(key);
+        while (keys[slot] != FREE && keys[slot] != key)
+            slot = (slot + 1) & mask;
+        if (keys[slot] == FREE)
+            insert(slot, key, value);
+        else
+            values[slot] = value;
+    }
+
+    /**
+     * Replaces every value v of the map with newValues[v].
+     */
+    void replaceValues(int[] newValues) {
+        for (int slot = 0; slot < keys.length; slot++)
+            if (keys[slot] != FREE)
+                values[slot] = newValues[values[slot]];
+    }
+
+    /**
+     * @return The value mapped to the key, or NO_VALUE if the key is not in the map.
+     */
+    int get(long key) {
+        int slot = slotOf(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key)
+                return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Removes the key, shifting back the keys that probed past it so that no tombstone is left.
+     * @return The value that was mapped to the key, or NO_VALUE if the key was not in the map.
+     */
+    int remove(long key) {
+        int slot = slotOf(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == FREE)
+                return NO_VALUE;
+            slot = (slot + 1) & mask;
+        }
+        int value = values[slot];
+        for (int next = (slot + 1) & mask; keys[next] != FREE; next = (next + 1) & mask) {
+            int home = slotOf(keys[next]);
+            // keys[next] may only move back to slot if slot lies between its home and next
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+        }
+        keys[slot] = FREE;
+        size--;
+        return value;
+    }
+
+    boolean containsKey(long key) {
+        return get(key) != NO_VALUE;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Stores a new key in the free slot its probe ended at, growing the table first if it is full.
+     */
+    private void insert(int slot, long key, int value) {
+        if (size == maxSize()) {
+            if (keys.length >= maxCapacity)
+                throw new IllegalStateException("size(" + size + "): the map can not hold more keys {0.." + maxSize() + "}");
+            rehash(keys.length << 1);
+            slot = slotOf(key);
+            while (keys[slot] != FREE)
+                slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    private int slotOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private int maxSize() {
+        return (keys.length >> 1) + (keys.length >> 2);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldKeys[oldSlot] == FREE) continue;
+            int slot = slotOf(oldKeys[oldSlot]);
+            while (keys[slot] != FREE)
+                slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[oldSlot];
+            values[slot] = oldValues[oldSlot];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long capacity = Math.max(DEFAULT_CAPACITY, (long) expectedSize * 4 / 3 + 1);
+        return (int) Math.min(MAX_CAPACITY, Long.highestOneBit(capacity - 1) << 1);
+    }
+}
@@ -1,3 +1,5 @@
+package kruskal;
+
 import java.util.List;
 import java.util.Random;
 
@@ -8,6 +10,9 @@ import java.util.Random;
  * This class aims to benchmark the implementation of the Kruskal algorithm,
  * by timing it's execution time when increasing both the number of vertices
  * (size of the graph) and number of edges (sparcity of the graph)
+ *
+ * This is only a quick single-shot run: for warmed up, forked measurements with
+ * allocation rates, use the JMH suite in benchmarks/ through BenchmarkRunner.
  */
 public class Main {
 
@@ -42,7 +47,7 @@ public class Main {
             for (int j = 1; j <= edgeIterations; j++) {
 
                 int edges = graphSize * j;
-                Graph g = new Graph(graphSize, edges, r);
+                Graph g = GraphGenerator.generate(GraphGenerator.Model.TREE_PLUS_EXTRAS, graphSize, edges, r.nextLong());
                 double time = mstTime(g);
 
                 System.out.println(String.format("\tEdges: % 10d (%dx) - Kruskal Time: % 14f s", g.amountOfEdges(), j, time));
@@ -0,0 +1,207 @@
+package kruskal;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Bottleneck (minimax path) queries over a minimum spanning forest, by binary lifting.
+ *
+ * Every tree of the forest is rooted at its lowest vertex. For each vertex v and level k
+ * the index keeps the ancestor 2^k links above v and, as the vertex whose parent edge it
+ * is, the heaviest edge on the way there. A query lifts both vertices to their lowest
+ * common ancestor in O(log V). The index is read only once built, so queries can run
+ * from several threads at the same time.
+ */
+public class MinimumSpanningTreeIndex {
+
+    private static final int SAME_VERTEX = -1, NOT_CONNECTED = -2;
+
+    private final int[] depths;
+    private final int[] roots;
+    private final double[] parentWeights;
+    private final int[][] ancestors;
+    private final int[][] heaviest;
+
+    /**
+     * Build the index of a forest.
+     * @param amountOfVertex The number of vertices of the graph
+     * @param forest The edges of a minimum spanning forest of the graph
+     */
+    public MinimumSpanningTreeIndex(int amountOfVertex, List<Edge> forest) {
+        EdgeList edges = new EdgeList(forest.size());
+        for (Edge edge : forest)
+            edges.add(edge.getLowVertex(), edge.getHighVertex(), edge.weight());
+        AdjacencyIndex adjacency = new AdjacencyIndex(amountOfVertex, edges);
+
+        int levels = Math.max(1, 32 - Integer.numberOfLeadingZeros(amountOfVertex));
+        depths = new int[amountOfVertex];
+        roots = new int[amountOfVertex];
+        parentWeights = new double[amountOfVertex];
+        ancestors = new int[levels][amountOfVertex];
+        heaviest = new int[levels][amountOfVertex];
+
+        // Breadth first from the lowest vertex of every tree, so parents are set before their children
+        Arrays.fill(depths, -1);
+        int[] queue = new int[amountOfVertex];
+        for (int root = 0; root < amountOfVertex; root++) {
+            if (depths[root] >= 0) continue;
+            depths[root] = 0;
+            ancestors[0][root] = root;
+            parentWeights[root] = Double.NEGATIVE_INFINITY;
+            int head = 0, tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int vertex = queue[head++];
+                roots[vertex] = root;
+                for (int index = adjacency.offset(vertex); index < adjacency.offset(vertex + 1); index++) {
+                    int target = adjacency.target(index);
+                    if (depths[target] >= 0) continue;
+                    depths[target] = depths[vertex] + 1;
+                    ancestors[0][target] = vertex;
+                    parentWeights[target] = adjacency.weight(index);
+                    queue[tail++] = target;
+                }
+            }
+        }
+
+        for (int vertex = 0; vertex < amountOfVertex; vertex++)
+            heaviest[0][vertex] = vertex;
+        for (int level = 1; level < levels; level++) {
+            for (int vertex = 0; vertex < amountOfVertex; vertex++) {
+                int middle = ancestors[level - 1][vertex];
+                ancestors[level][vertex] = ancestors[level - 1][middle];
+                heaviest[level][vertex] = heavier(heaviest[level - 1][vertex], heaviest[level - 1][middle]);
+            }
+        }
+    }
+
+    /**
+     * @return The number of vertices of the graph.
+     */
+    public int amountOfVertex() {
+        return depths.length;
+    }
+
+    /**
+     * The heaviest edge on the path between two vertices in the forest, which is also
+     * the lightest possible heaviest edge of any path between them in the graph.
+     * @param vertex1
+     * @param vertex2
+     * @return The heaviest edge of the path, or null if the vertices are the same or not connected.
+     */
+    public Edge bottleneckEdge(int vertex1, int vertex2) {
+        int child = heaviestOnPath(vertex1, vertex2);
+        return child < 0 ? null : new Edge(child, ancestors[0][child], parentWeights[child]);
+    }
+
+    /**
+     * The weight of bottleneckEdge(vertex1, vertex2).
+     * @param vertex1
+     * @param vertex2
+     * @return The weight, negative infinity if the vertices are the same, positive infinity if they are not connected.
+     */
+    public double bottleneck(int vertex1, int vertex2) {
+        int child = heaviestOnPath(vertex1, vertex2);
+        if (child == NOT_CONNECTED) return Double.POSITIVE_INFINITY;
+        return child < 0 ? Double.NEGATIVE_INFINITY : parentWeights[child];
+    }
+
+    /**
+     * If the two vertices are connected by a path made only of edges lighter than threshold.
+     * @param vertex1
+     * @param vertex2
+     * @param threshold
+     * @return True if the bottleneck between them is lighter than threshold
+     */
+    public boolean connectedUnderThreshold(int vertex1, int vertex2, double threshold) {
+        return bottleneck(vertex1, vertex2) < threshold;
+    }
+
+    /**
+     * bottleneck for every pair (vertices1[i], vertices2[i]), answered in parallel on the common pool.
+     * @param vertices1
+     * @param vertices2
+     * @return The bottleneck of every pair
+     */
+    public double[] bottlenecks(int[] vertices1, int[] vertices2) {
+        if (vertices1.length != vertices2.length)
+            throw new IllegalArgumentException("queries(" + vertices1.length + ", " + vertices2.length + "): vertices must have the same length");
+        double[] bottlenecks = new double[vertices1.length];
+        Arrays.parallelSetAll(bottlenecks, query -> bottleneck(vertices1[query], vertices2[query]));
+        return bottlenecks;
+    }
+
+    /**
+     * connectedUnderThreshold for every query (vertices1[i], vertices2[i], thresholds[i]), answered in parallel.
+     * @param vertices1
+     * @param vertices2
+     * @param thresholds
+     * @return The answer of every query
+     */
+    public boolean[] connectedUnderThreshold(int[] vertices1, int[] vertices2, double[] thresholds) {
+        if (thresholds.length != vertices1.length)
+            throw new IllegalArgumentException("queries(" + vertices1.length + ", " + thresholds.length + "): vertices and thresholds must have the same length");
+        double[] bottlenecks = bottlenecks(vertices1, vertices2);
+        boolean[] connected = new boolean[bottlenecks.length];
+        for (int query = 0; query < connected.length; query++)
+            connected[query] = bottlenecks[query] < thresholds[query];
+        return connected;
+    }
+
+    /**
+     * @return The vertex whose parent edge is the heaviest on the path, SAME_VERTEX or NOT_CONNECTED.
+     */
+    private int heaviestOnPath(int vertex1, int vertex2) {
+        checkBounds(vertex1);
+        checkBounds(vertex2);
+        if (vertex1 == vertex2) return SAME_VERTEX;
+        if (roots[vertex1] != roots[vertex2]) return NOT_CONNECTED;
+
+        if (depths[vertex1] < depths[vertex2]) {
+            int swap = vertex1;
+            vertex1 = vertex2;
+            vertex2 = swap;
+        }
+        int result = SAME_VERTEX;
+        for (int level = ancestors.length - 1; level >= 0; level--) {
+            if (depths[vertex1] - (1 << level) >= depths[vertex2]) {
+                result = heavier(result, heaviest[level][vertex1]);
+                vertex1 = ancestors[level][vertex1];
+            }
+        }
+        if (vertex1 == vertex2) return result;
+
+        for (int level = ancestors.length - 1; level >= 0; level--) {
+            if (ancestors[level][vertex1] != ancestors[level][vertex2]) {
+                result = heavier(result, heavier(heaviest[level][vertex1], heaviest[level][vertex2]));
+                vertex1 = ancestors[level][vertex1];
+                vertex2 = ancestors[level][vertex2];
+            }
+        }
+        return heavier(result, heavier(vertex1, vertex2));
+    }
+
+    /**
+     * The vertex with the heavier parent edge, in the order of Edge.compareTo.
+     */
+    private int heavier(int child1, int child2) {
+        if (child1 < 0) return child2;
+        if (child2 < 0) return child1;
+        int byWeight = Double.compare(parentWeights[child1], parentWeights[child2]);
+        if (byWeight != 0) return byWeight > 0 ? child1 : child2;
+        return edgeKey(child1) >= edgeKey(child2) ? child1 : child2;
+    }
+
+    private long edgeKey(int child) {
+        int parent = ancestors[0][child];
+        return EdgeSorter.verticesKey(Math.min(child, parent), Math.max(child, parent));
+    }
+
+    private void checkBounds(int vertex) {
+        if (vertex < 0 || vertex >= depths.length)
+            throw new IndexOutOfBoundsException("vertex(" + vertex + "): is out of range {0.." + (depths.length - 1) + "}");
+    }
+}
@@ -0,0 +1,270 @@
+package kruskal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Store of undirected weighted edges kept out of the Java heap, for graphs with more
+ * edges than an array can hold. Edges are 16 byte records (low vertex, high vertex,
+ * double weight) in fixed-size chunks, either direct buffers or files mapped in memory,
+ * so the heap and the garbage collector only see one buffer object per chunk.
+ *
+ * Sorting radix sorts every chunk on its own, through one direct scratch buffer shared
+ * by all of them, and then k-way merges the chunks into new ones, so it needs twice the
+ * off-heap space for a while but almost nothing on the heap.
+ */
+public class OffHeapEdgeList implements EdgeStore, Closeable {
+
+    static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+    private static final int RECORD_SIZE = 16;
+    private static final int RADIX_BITS = 16;
+    private static final int RADIX_MASK = (1 << RADIX_BITS) - 1;
+    private static final int RADIX_DIGITS = 2 * Long.SIZE / RADIX_BITS;
+
+    private final Path directory;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final List<Path> chunkFiles = new ArrayList<>();
+    private ByteBuffer[] chunks = new ByteBuffer[0];
+    private long size;
+    private boolean sorted = true;
+
+    /**
+     * Constructor for an empty edge list kept in direct memory.
+     */
+    public OffHeapEdgeList() {
+        this(null, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor for an empty edge list kept in files of the given directory, mapped in memory.
+     * The files are deleted when the list is closed.
+     * @param directory
+     */
+    public OffHeapEdgeList(Path directory) {
+        this(directory, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param directory Where chunk files are created, null for direct memory
+     * @param chunkSize Edges per chunk, a power of two
+     */
+    OffHeapEdgeList(Path directory, int chunkSize) {
+        if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1 || chunkSize > Integer.MAX_VALUE / RECORD_SIZE)
+            throw new IllegalArgumentException("chunkSize(" + chunkSize + "): must be a power of two up to " + Integer.MAX_VALUE / RECORD_SIZE);
+        this.directory = directory;
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+        this.chunkMask = chunkSize - 1;
+    }
+
+    /**
+     * Append an undirected edge. No validation is done on the arguments.
+     * @param vertex1
+     * @param vertex2
+     * @param weight
+     * @return The position of the new edge.
+     * @throws UncheckedIOException if a file-backed list can not create a new chunk.
+     */
+    public long add(int vertex1, int vertex2, double weight) {
+        if (size >>> chunkShift == chunks.length)
+            chunks = grow(chunks);
+        put(chunks, size, Math.min(vertex1, vertex2), Math.max(vertex1, vertex2), weight);
+        if (sorted && size > 0 && compare(size - 1, size) > 0)
+            sorted = false;
+        return size++;
+    }
+
+    @Override
+    public long amountOfEdges() {
+        return size;
+    }
+
+    @Override
+    public int lowVertex(long position) {
+        return chunks[(int) (position >>> chunkShift)].getInt(offset(position));
+    }
+
+    @Override
+    public int highVertex(long position) {
+        return chunks[(int) (position >>> chunkShift)].getInt(offset(position) + Integer.BYTES);
+    }
+
+    @Override
+    public double weight(long position) {
+        return chunks[(int) (position >>> chunkShift)].getDouble(offset(position) + 2 * Integer.BYTES);
+    }
+
+    @Override
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Comparison of two stored edges, consistent with Edge.compareTo.
+     */
+    public int compare(long position1, long position2) {
+        int byWeight = Double.compare(weight(position1), weight(position2));
+        if (byWeight != 0) return byWeight;
+        return Long.compare(EdgeSorter.verticesKey(lowVertex(position1), highVertex(position1)),
+                EdgeSorter.verticesKey(lowVertex(position2), highVertex(position2)));
+    }
+
+    /**
+     * Sort the edges: every chunk in place, and then all of them by a k-way merge.
+     * @throws UncheckedIOException if a file-backed list can not create the merged chunks.
+     */
+    @Override
+    public void sort() {
+        if (sorted) return;
+        int amountOfChunks = (int) ((size + chunkMask) >>> chunkShift);
+        ByteBuffer scratch = ByteBuffer.allocateDirect((int) Math.min(size, chunkMask + 1) * RECORD_SIZE).order(ByteOrder.nativeOrder());
+        int[][] counts = new int[RADIX_DIGITS][1 << RADIX_BITS];
+        for (int index = 0; index < amountOfChunks; index++) {
+            long first = (long) index << chunkShift;
+            radixSort(chunks[index], scratch, (int) (Math.min(size, first + chunkMask + 1) - first), counts);
+        }
+        if (amountOfChunks > 1)
+            merge(amountOfChunks);
+        sorted = true;
+    }
+
+    /**
+     * LSD radix sort of the first length records of a chunk, RADIX_BITS at a time: first on
+     * the packed vertices, then on the bits of the weight. The records are moved back and forth
+     * between the chunk and the scratch buffer, skipping the digits shared by all of them.
+     */
+    private static void radixSort(ByteBuffer chunk, ByteBuffer scratch, int length, int[][] counts) {
+        for (int[] count : counts)
+            Arrays.fill(count, 0);
+        for (int record = 0; record < length; record++)
+            for (int digit = 0; digit < RADIX_DIGITS; digit++)
+                counts[digit][digit(chunk, record, digit)]++;
+
+        ByteBuffer source = chunk, target = scratch;
+        for (int digit = 0; digit < RADIX_DIGITS; digit++) {
+            int[] count = counts[digit];
+            if (count[digit(source, 0, digit)] == length)
+                continue;
+            for (int bucket = 0, next = 0; bucket < count.length; bucket++) {
+                int amount = count[bucket];
+                count[bucket] = next;
+                next += amount;
+            }
+            for (int record = 0; record < length; record++) {
+                int from = record * RECORD_SIZE, to = count[digit(source, record, digit)]++ * RECORD_SIZE;
+                target.putLong(to, source.getLong(from)).putLong(to + Long.BYTES, source.getLong(from + Long.BYTES));
+            }
+            ByteBuffer sortedSoFar = target;
+            target = source;
+            source = sortedSoFar;
+        }
+        if (source != chunk)
+            chunk.put(0, source, 0, length * RECORD_SIZE);
+    }
+
+    private static int digit(ByteBuffer chunk, int record, int digit) {
+        int offset = record * RECORD_SIZE;
+        long key = digit < RADIX_DIGITS / 2
+                ? EdgeSorter.verticesKey(chunk.getInt(offset), chunk.getInt(offset + Integer.BYTES))
+                : EdgeSorter.weightKey(chunk.getDouble(offset + 2 * Integer.BYTES));
+        return (int) (key >>> (digit % (RADIX_DIGITS / 2) * RADIX_BITS)) & RADIX_MASK;
+    }
+
+    private void merge(int amountOfChunks) {
+        long[] heads = new long[amountOfChunks];
+        IndexedDaryHeap heap = new IndexedDaryHeap(amountOfChunks, Prim.HEAP_ARITY);
+        for (int index = 0; index < amountOfChunks; index++) {
+            heads[index] = (long) index << chunkShift;
+            offerHead(heap, index, heads[index]);
+        }
+
+        List<Path> oldChunkFiles = new ArrayList<>(chunkFiles);
+        chunkFiles.clear();
+        ByteBuffer[] merged = new ByteBuffer[0];
+        for (long position = 0; position < size; position++) {
+            if (position >>> chunkShift == merged.length)
+                merged = grow(merged);
+            int index = heap.poll();
+            long head = heads[index]++;
+            put(merged, position, lowVertex(head), highVertex(head), weight(head));
+            if (heads[index] < Math.min(size, (long) (index + 1) << chunkShift))
+                offerHead(heap, index, heads[index]);
+        }
+        chunks = merged;
+        delete(oldChunkFiles);
+    }
+
+    private void offerHead(IndexedDaryHeap heap, int index, long position) {
+        heap.offer(index, weight(position), EdgeSorter.verticesKey(lowVertex(position), highVertex(position)));
+    }
+
+    /**
+     * Release the chunks. Direct memory is given back once the chunks are garbage collected;
+     * the files of a file-backed list are deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        chunks = new ByteBuffer[0];
+        size = 0;
+        sorted = true;
+        List<Path> files = new ArrayList<>(chunkFiles);
+        chunkFiles.clear();
+        try {
+            delete(files);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private int offset(long position) {
+        return (int) (position & chunkMask) * RECORD_SIZE;
+    }
+
+    private void put(ByteBuffer[] target, long position, int lowVertex, int highVertex, double weight) {
+        target[(int) (position >>> chunkShift)]
+                .putInt(offset(position), lowVertex)
+                .putInt(offset(position) + Integer.BYTES, highVertex)
+                .putDouble(offset(position) + 2 * Integer.BYTES, weight);
+    }
+
+    private ByteBuffer[] grow(ByteBuffer[] target) {
+        ByteBuffer[] grown = Arrays.copyOf(target, target.length + 1);
+        int bytes = (int) (chunkMask + 1) * RECORD_SIZE;
+        if (directory == null) {
+            grown[target.length] = ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+            return grown;
+        }
+        try {
+            Path file = Files.createTempFile(directory, "kruskal-edges", ".bin");
+            chunkFiles.add(file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                grown[target.length] = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes).order(ByteOrder.nativeOrder());
+            }
+            return grown;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void delete(List<Path> files) {
+        try {
+            for (Path file : files)
+                Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package kruskal;
+
+import java.util.List;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Implementation of the Prim algorithm over the CSR adjacency index of a graph,
+ * with an indexed d-ary heap.
+ * Edges are compared like Edge.compareTo, so the tree is the same returned by Kruskal.
+ */
+public class Prim {
+
+    static final int HEAP_ARITY = 4;
+
+    /**
+     * Returns the minimum spanning tree of a Graph.
+     * If the graph is not connected, a minimum spanning tree of every connected
+     * component is returned, like Kruskal does.
+     * @param graph
+     * @return The list of edges that make the MST of the given graph, sorted
+     */
+    public static List<Edge> minimumSpanningTree(Graph graph) {
+        AdjacencyIndex adjacency = graph.adjacencyIndex();
+        int amountOfVertex = adjacency.amountOfVertex();
+        boolean[] inTree = new boolean[amountOfVertex];
+        int[] parent = new int[amountOfVertex];
+        IndexedDaryHeap heap = new IndexedDaryHeap(amountOfVertex, HEAP_ARITY);
+        EdgeList minimumSpanningTree = new EdgeList(Math.max(0, amountOfVertex - 1));
+
+        for (int root = 0; root < amountOfVertex; root++) {
+            if (inTree[root])
+                continue;
+            inTree[root] = true;
+            relax(adjacency, root, inTree, parent, heap);
+
+            while (!heap.isEmpty()) {
+                int vertex = heap.poll();
+                inTree[vertex] = true;
+                minimumSpanningTree.add(parent[vertex], vertex, heap.weight(vertex));
+                relax(adjacency, vertex, inTree, parent, heap);
+            }
+        }
+
+        minimumSpanningTree.sort();
+        return minimumSpanningTree.toList();
+    }
+
+    private static void relax(AdjacencyIndex adjacency, int vertex, boolean[] inTree, int[] parent, IndexedDaryHeap heap) {
+        for (int index = adjacency.offset(vertex); index < adjacency.offset(vertex + 1); index++) {
+            int target = adjacency.target(index);
+            if (inTree[target])
+                continue;
+            long vertices = EdgeSorter.verticesKey(Math.min(vertex, target), Math.max(vertex, target));
+            if (heap.offer(target, adjacency.weight(index), vertices))
+                parent[target] = vertex;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package kruskal;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * A minimum spanning forest: the minimum spanning tree of every connected component
+ * of a graph, with the component each vertex belongs to, the weight of each tree and
+ * the amount of edges of the graph in each component.
+ * Components are numbered from 0, in order of their lowest vertex.
+ */
+public class SpanningForest {
+    private final List<Edge> edges;
+    private final int[] components;
+    private final double[] weights;
+    private final int[] amountsOfEdges;
+    private final double totalWeight;
+
+    /**
+     * @param edges The edges of the forest, sorted
+     * @param set The components of the graph, as left by joining the edges of the forest
+     * @param graphEdges All the edges of the graph, counted by component
+     */
+    SpanningForest(List<Edge> edges, DisjointSets set, EdgeList graphEdges) {
+        this.edges = Collections.unmodifiableList(edges);
+        this.components = set.labels();
+        this.weights = new double[set.amountOfSets()];
+        this.amountsOfEdges = new int[set.amountOfSets()];
+        double totalWeight = 0;
+        for (Edge edge : edges) {
+            weights[components[edge.getLowVertex()]] += edge.weight();
+            totalWeight += edge.weight();
+        }
+        this.totalWeight = totalWeight;
+        for (int position = 0; position < graphEdges.size(); position++)
+            amountsOfEdges[components[graphEdges.lowVertex(position)]]++;
+    }
+
+    /**
+     * Builds the forest of a list of tree edges, such as the minimum spanning tree of a graph.
+     * @param amountOfVertex
+     * @param edges The edges of the forest, sorted
+     * @param graphEdges All the edges of the graph
+     */
+    static SpanningForest of(int amountOfVertex, List<Edge> edges, EdgeList graphEdges) {
+        DisjointSets set = new DisjointSets(amountOfVertex);
+        for (Edge edge : edges)
+            set.union(edge.getLowVertex(), edge.getHighVertex());
+        return new SpanningForest(edges, set, graphEdges);
+    }
+
+    /**
+     * @return The edges of all the trees, sorted.
+     */
+    public List<Edge> edges() {
+        return edges;
+    }
+
+    /**
+     * @return The amount of connected components, and of trees.
+     */
+    public int amountOfComponents() {
+        return weights.length;
+    }
+
+    /**
+     * @return True if the forest is a single tree spanning every vertex.
+     */
+    public boolean isSpanningTree() {
+        return weights.length == 1;
+    }
+
+    /**
+     * @param vertex
+     * @return The component the vertex belongs to.
+     */
+    public int component(int vertex) {
+        if (vertex < 0 || vertex >= components.length)
+            throw new IndexOutOfBoundsException("vertex(" + vertex + "): is out of range {0.." + (components.length - 1) + "}");
+        return components[vertex];
+    }
+
+    /**
+     * The component of every vertex, indexed by vertex. The array is not copied.
+     * @return
+     */
+    public int[] components() {
+        return components;
+    }
+
+    /**
+     * @param component
+     * @return The weight of the tree of the component.
+     */
+    public double weight(int component) {
+        checkComponent(component);
+        return weights[component];
+    }
+
+    private void checkComponent(int component) {
+        if (component < 0 || component >= weights.length)
+            throw new IndexOutOfBoundsException("component(" + component + "): is out of range {0.." + (weights.length - 1) + "}");
+    }
+
+    /**
+     * @param component
+     * @return The amount of edges of the graph in the component, loops and edges left out of its tree included.
+     */
+    public int amountOfEdges(int component) {
+        checkComponent(component);
+        return amountsOfEdges[component];
+    }
+
+    /**
+     * @return The weight of all the trees.
+     */
+    public double totalWeight() {
+        return totalWeight;
+    }
+
+    @Override
+    public String toString() {
+        return "SpanningForest { " + weights.length + " components; " + edges.size() + " edges; total weight = " + totalWeight + " }";
+    }
+}
@@ -0,0 +1,310 @@
+package kruskal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * Reader of graphs stored as text edge lists.
+ *
+ * The file is split in byte ranges that are memory mapped and parsed in parallel,
+ * straight from bytes into primitive buffers, and then added to the graph in file order.
+ * Repeated edges are handled like addEdge does: only the first one is kept.
+ */
+public class TextGraphReader {
+
+    /**
+     * Supported edge list dialects.
+     */
+    public enum Format {
+        /**
+         * DIMACS shortest path format: "c" comment lines, a "p sp vertices edges" problem line,
+         * and "a u v w" arc lines with 1-based vertices.
+         */
+        DIMACS,
+        /**
+         * SNAP format: "#" or "%" comment lines and "u v" or "u v w" lines with 0-based vertices.
+         * Unweighted edges get weight 1. The graph has as many vertices as the highest vertex found plus one.
+         */
+        SNAP
+    }
+
+    static final int MAX_LINE_LENGTH = 1 << 20;
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final long MAX_CHUNK_SIZE = 1 << 30;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Read a graph, parsing on the common ForkJoinPool.
+     */
+    public static Graph read(Path path, Format format) throws IOException {
+        return read(path, format, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Read a graph.
+     * @param path The file to be read
+     * @param format The dialect of the file
+     * @param pool The pool running the parsing of the chunks
+     * @return The graph stored in the file
+     * @throws IOException If the file can not be read or is not valid in the given format
+     */
+    public static Graph read(Path path, Format format, ForkJoinPool pool) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, size / (4L * pool.getParallelism()) + 1));
+            List<ForkJoinTask<Chunk>> tasks = new ArrayList<>();
+            for (long start = 0; start < size; start += chunkSize)
+                tasks.add(pool.submit(new ChunkParser(path, channel, format, start, Math.min(size, start + chunkSize))));
+            for (ForkJoinTask<Chunk> task : tasks)
+                chunks.add(task.join());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        long amountOfVertex = -1;
+        int amountOfEdges = 0, highestVertex = -1;
+        for (Chunk chunk : chunks) {
+            if (chunk.declaredVertices >= 0) {
+                if (amountOfVertex >= 0)
+                    throw new IOException(path + ": more than one problem line");
+                amountOfVertex = chunk.declaredVertices;
+            }
+            highestVertex = Math.max(highestVertex, chunk.highestVertex);
+            amountOfEdges = Math.addExact(amountOfEdges, chunk.edges.size());
+        }
+        if (format == Format.DIMACS && amountOfVertex < 0)
+            throw new IOException(path + ": missing problem line");
+        if (format == Format.SNAP)
+            amountOfVertex = highestVertex + 1L;
+        if (amountOfVertex > Integer.MAX_VALUE)
+            throw new IOException(path + ": unsupported amount of vertices " + amountOfVertex);
+
+        try {
+            Graph graph = new Graph((int) amountOfVertex, amountOfEdges);
+            for (Chunk chunk : chunks)
+                graph.addEdges(chunk.edges);
+            return graph;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException(path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The edges parsed from one byte range of the file.
+     */
+    private static class Chunk {
+        final EdgeList edges = new EdgeList();
+        long declaredVertices = -1;
+        int highestVertex = -1;
+    }
+
+    /**
+     * Parses the lines starting in [start, end). The line crossing start belongs to the previous chunk.
+     */
+    @SuppressWarnings("serial")
+    private static class ChunkParser extends RecursiveTask<Chunk> {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final Format format;
+        private final long start;
+        private final long end;
+        private final Chunk chunk = new Chunk();
+        private MappedByteBuffer buffer;
+        private long offset;
+        private int cursor;
+
+        ChunkParser(Path path, FileChannel channel, Format format, long start, long end) {
+            this.path = path;
+            this.channel = channel;
+            this.format = format;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Chunk compute() {
+            try {
+                offset = Math.max(0, start - 1);
+                long mappedEnd = Math.min(channel.size(), end + MAX_LINE_LENGTH);
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, mappedEnd - offset);
+                int limit = (int) (end - offset);
+
+                // Skip the tail of a line started in the previous chunk
+                if (start > 0)
+                    while (cursor < buffer.limit() && buffer.get(cursor++) != '\n') ;
+
+                while (cursor < limit)
+                    parseLine();
+                return chunk;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void parseLine() throws IOException {
+            skipSpaces();
+            if (atEndOfLine()) {
+                nextLine();
+                return;
+            }
+            byte first = buffer.get(cursor);
+            if (format == Format.DIMACS) {
+                if (first == 'c') {
+                    nextLine();
+                } else if (first == 'p') {
+                    cursor++;
+                    skipWord();
+                    chunk.declaredVertices = parseLong();
+                    parseLong();
+                    endLine();
+                } else if (first == 'a') {
+                    cursor++;
+                    addEdge(parseVertex() - 1, parseVertex() - 1, parseWeight());
+                    endLine();
+                } else {
+                    throw error("unexpected line");
+                }
+            } else {
+                if (first == '#' || first == '%') {
+                    nextLine();
+                } else {
+                    int vertex1 = parseVertex(), vertex2 = parseVertex();
+                    skipSpaces();
+                    addEdge(vertex1, vertex2, atEndOfLine() ? 1.0 : parseWeight());
+                    endLine();
+                }
+            }
+        }
+
+        private void addEdge(int vertex1, int vertex2, double weight) throws IOException {
+            if (vertex1 < 0 || vertex2 < 0)
+                throw error("vertex out of range");
+            chunk.edges.add(vertex1, vertex2, weight);
+            chunk.highestVertex = Math.max(chunk.highestVertex, Math.max(vertex1, vertex2));
+        }
+
+        private int parseVertex() throws IOException {
+            long vertex = parseLong();
+            if (vertex > Integer.MAX_VALUE)
+                throw error("vertex out of range");
+            return (int) vertex;
+        }
+
+        private long parseLong() throws IOException {
+            skipSpaces();
+            int from = cursor;
+            long value = 0;
+            while (cursor < buffer.limit() && isDigit(buffer.get(cursor))) {
+                value = value * 10 + (buffer.get(cursor++) - '0');
+                if (value < 0 || cursor - from > 18)
+                    throw error("number too large");
+            }
+            if (cursor == from)
+                throw error("number expected");
+            return value;
+        }
+
+        /**
+         * Plain decimals whose digits fit in 2^53 are converted exactly with a single
+         * division by an exact power of ten. Anything else goes through Double.parseDouble.
+         */
+        private double parseWeight() throws IOException {
+            skipSpaces();
+            int from = cursor;
+            long mantissa = 0;
+            int digits = 0, decimals = 0;
+            boolean point = false;
+            while (cursor < buffer.limit()) {
+                byte character = buffer.get(cursor);
+                if (isDigit(character)) {
+                    mantissa = mantissa * 10 + (character - '0');
+                    digits++;
+                    if (point) decimals++;
+                } else if (character == '.' && !point) {
+                    point = true;
+                } else {
+                    break;
+                }
+                cursor++;
+                if (digits > 15) break;
+            }
+            if (digits > 0 && digits <= 15 && decimals < POWERS_OF_TEN.length && isEndOfNumber())
+                return mantissa / POWERS_OF_TEN[decimals];
+
+            while (cursor < buffer.limit() && !isSpace(buffer.get(cursor)) && buffer.get(cursor) != '\n')
+                cursor++;
+            byte[] text = new byte[cursor - from];
+            for (int i = 0; i < text.length; i++)
+                text[i] = buffer.get(from + i);
+            try {
+                return Double.parseDouble(new String(text, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                throw error("weight expected");
+            }
+        }
+
+        private void skipWord() {
+            skipSpaces();
+            while (cursor < buffer.limit() && !isSpace(buffer.get(cursor)) && buffer.get(cursor) != '\n')
+                cursor++;
+        }
+
+        private void skipSpaces() {
+            while (cursor < buffer.limit() && isSpace(buffer.get(cursor)))
+                cursor++;
+        }
+
+        private void endLine() throws IOException {
+            skipSpaces();
+            if (!atEndOfLine())
+                throw error("unexpected content at the end of the line");
+            nextLine();
+        }
+
+        private void nextLine() throws IOException {
+            while (cursor < buffer.limit() && buffer.get(cursor) != '\n')
+                cursor++;
+            if (cursor == buffer.limit() && offset + cursor < channel.size())
+                throw error("line longer than " + MAX_LINE_LENGTH + " bytes");
+            cursor++;
+        }
+
+        private boolean atEndOfLine() {
+            return cursor >= buffer.limit() || buffer.get(cursor) == '\n';
+        }
+
+        private boolean isEndOfNumber() {
+            return cursor >= buffer.limit() || isSpace(buffer.get(cursor)) || buffer.get(cursor) == '\n';
+        }
+
+        private static boolean isDigit(byte character) {
+            return character >= '0' && character <= '9';
+        }
+
+        private static boolean isSpace(byte character) {
+            return character == ' ' || character == '\t' || character == '\r';
+        }
+
+        private IOException error(String message) {
+            return new IOException(path + ": " + message + " at byte " + (offset + cursor));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package kruskal;
+
+/**
+ * @author Alessandro Fusco
+ * @author Eduardo Ortega
+ *
+ * How the weights of the edges of a Graph are stored.
+ * Narrower types take less memory per edge; the integer ones also let
+ * the edges be sorted by weight with a counting sort.
+ */
+public enum WeightType {
+    /**
+     * 8 bytes per weight, any non negative double.
+     */
+    DOUBLE,
+    /**
+     * 4 bytes per weight, rounded to the nearest float.
+     */
+    FLOAT,
+    /**
+     * 4 bytes per weight, integers from 0 to Integer.MAX_VALUE. Stored exactly.
+     */
+    INT,
+    /**
+     * 2 bytes per weight, integers from 0 to 65535, such as weights quantized to 16 bits. Stored exactly.
+     */
+    SHORT;
+
+    static final int MAX_SHORT_WEIGHT = Character.MAX_VALUE;
+
+    /**
+     * @return True if the weights are integers.
+     */
+    public boolean isIntegral() {
+        return this == INT || this == SHORT;
+    }
+
+    /**
+     * The weight as it is going to be stored.
+     * @param weight A non negative weight
+     * @return The weight, rounded for FLOAT.
+     * @throws IllegalArgumentException if an integer type can not store the weight exactly.
+     */
+    double convert(double weight) {
+        switch (this) {
+            case FLOAT:
+                return (float) weight;
+            case INT:
+                if (weight != Math.rint(weight) || weight > Integer.MAX_VALUE)
+                    throw new IllegalArgumentException("weight(" + weight + "): is not an integer in range {0.." + Integer.MAX_VALUE + "}");
+                return weight;
+            case SHORT:
+                if (weight != Math.rint(weight) || weight > MAX_SHORT_WEIGHT)
+                    throw new IllegalArgumentException("weight(" + weight + "): is not an integer in range {0.." + MAX_SHORT_WEIGHT + "}");
+                return weight;
+            default:
+                return weight;
+        }
+    }
+}
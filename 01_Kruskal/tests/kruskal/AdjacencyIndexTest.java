@@ -0,0 +1,33 @@
+package kruskal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AdjacencyIndexTest {
+
+    @Test
+    public void shouldListTheNeighboursOfEveryVertex() throws Exception {
+        EdgeList edges = new EdgeList();
+        edges.add(0, 1, 1.0);
+        edges.add(2, 0, 2.0);
+        edges.add(3, 3, 0.0);
+        edges.add(1, 2, 3.0);
+        AdjacencyIndex index = new AdjacencyIndex(4, edges);
+
+        assertEquals(4, index.amountOfVertex());
+        assertEquals(6, index.offset(4));
+        assertEquals(2, index.degree(0));
+        assertEquals(2, index.degree(1));
+        assertEquals(2, index.degree(2));
+        assertEquals(0, index.degree(3));
+
+        assertEquals(1, index.target(index.offset(0)));
+        assertEquals(1.0, index.weight(index.offset(0)), 0.0);
+        assertEquals(2, index.target(index.offset(0) + 1));
+        assertEquals(2.0, index.weight(index.offset(0) + 1), 0.0);
+        assertEquals(0, index.target(index.offset(2)));
+        assertEquals(1, index.target(index.offset(2) + 1));
+        assertEquals(3.0, index.weight(index.offset(2) + 1), 0.0);
+    }
+}
@@ -0,0 +1,72 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ClusteringTest {
+
+    @Test
+    public void clusters_should_be_split_by_the_heaviest_edges() throws Exception {
+        Graph g = new Graph(6);
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 2, 1);
+        g.addEdge(3, 4, 2);
+        g.addEdge(2, 3, 5);
+        g.addEdge(0, 5, 7);
+        g.addEdge(4, 5, 8);
+
+        Clustering clustering = Kruskal.clustering(g, 3);
+        assertEquals(3, clustering.amountOfClusters());
+        assertArrayEquals(new int[]{0, 0, 0, 1, 1, 2}, clustering.labels());
+        assertEquals(5, clustering.spacing(), 0);
+        assertEquals(2, clustering.label(5));
+
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 0}, Kruskal.clustering(g, 1).labels());
+        assertEquals(Double.POSITIVE_INFINITY, Kruskal.clustering(g, 1).spacing(), 0);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5}, Kruskal.clustering(g, 6).labels());
+        assertEquals(1, Kruskal.clustering(g, 6).spacing(), 0);
+    }
+
+    @Test
+    public void disconnected_graphs_should_keep_their_components() throws Exception {
+        Graph g = new Graph(4);
+        g.addEdge(0, 2, 3);
+
+        Clustering clustering = Kruskal.clustering(g, 2);
+        assertEquals(3, clustering.amountOfClusters());
+        assertArrayEquals(new int[]{0, 1, 0, 2}, clustering.labels());
+        assertEquals(Double.POSITIVE_INFINITY, clustering.spacing(), 0);
+    }
+
+    @Test
+    public void clustering_should_match_the_minimum_spanning_tree() throws Exception {
+        Graph g = new Graph(2000, 10000, new Random(11));
+        List<Edge> mst = Kruskal.minimumSpanningTree(g);
+        int k = 25;
+
+        DisjointSets expected = new DisjointSets(g.amountOfVertex());
+        for (Edge edge : mst.subList(0, mst.size() - (k - 1)))
+            expected.union(edge.getLowVertex(), edge.getHighVertex());
+
+        Clustering clustering = Kruskal.clustering(g, k);
+        assertEquals(k, clustering.amountOfClusters());
+        assertEquals(mst.get(mst.size() - (k - 1)).weight(), clustering.spacing(), 0);
+        for (int vertex = 0; vertex < g.amountOfVertex(); vertex++)
+            for (int other : new int[]{0, vertex / 2, (vertex * 7) % g.amountOfVertex()})
+                assertEquals(expected.areConnected(vertex, other), clustering.label(vertex) == clustering.label(other));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void k_should_not_be_greater_than_the_amount_of_vertices() throws Exception {
+        Kruskal.clustering(new Graph(3), 4);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void k_should_be_positive() throws Exception {
+        Kruskal.clustering(new Graph(3), 0);
+    }
+}
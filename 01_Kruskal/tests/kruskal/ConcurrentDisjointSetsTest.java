@@ -0,0 +1,55 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentDisjointSetsTest {
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testOutOfBound() throws Exception {
+        new ConcurrentDisjointSets(6).union(0, 30);
+    }
+
+    @Test
+    public void testUnion() throws Exception {
+        ConcurrentDisjointSets sets = new ConcurrentDisjointSets(6);
+        assertTrue(sets.union(3, 5));
+        assertTrue(sets.union(0, 1));
+        assertFalse(sets.union(5, 3));
+        assertTrue(sets.union(0, 3));
+        assertEquals(3, sets.amountOfSets());
+        assertTrue(sets.areConnected(1, 5));
+        assertFalse(sets.areConnected(1, 4));
+        assertFalse(sets.areConnected(2, 4));
+    }
+
+    @Test
+    public void concurrentUnionsShouldMergeExactlyOnce() throws Exception {
+        int size = 1 << 18;
+        ConcurrentDisjointSets sets = new ConcurrentDisjointSets(size);
+        AtomicInteger merges = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(8);
+        for (int task = 0; task < 8; task++) {
+            int offset = task;
+            pool.execute(() -> {
+                for (int vertex = 1; vertex < size; vertex++) {
+                    int other = (vertex * 31 + offset) % vertex;
+                    if (sets.union(vertex, other))
+                        merges.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+
+        assertEquals(size - 1, merges.get());
+        assertEquals(1, sets.amountOfSets());
+        for (int vertex = 0; vertex < size; vertex++)
+            assertTrue(sets.areConnected(0, vertex));
+    }
+}
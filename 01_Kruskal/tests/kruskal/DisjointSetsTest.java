@@ -0,0 +1,161 @@
+package kruskal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DisjointSetsTest {
+
+    private DisjointSets verticesSets;
+
+    @Before
+    public void setUp() throws Exception {
+        verticesSets = new DisjointSets(6);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testOutOfBound1() throws Exception {
+        verticesSets.areConnected(10, 0);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testOutOfBound2() throws Exception {
+        verticesSets.areConnected(0, -7);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testOutOfBound3() throws Exception {
+        verticesSets.connectSets(0, 30);
+    }
+
+    @Test
+    public void testAreConnected() throws Exception {
+        assertTrue(verticesSets.areConnected(0, 0));
+        assertFalse(verticesSets.areConnected(1, 2));
+    }
+
+    @Test
+    public void testJoin1() throws Exception {
+
+        assertEquals(6, verticesSets.amountOfSets());
+        verticesSets.connectSets(0, 1);
+        verticesSets.connectSets(2, 3);
+        verticesSets.connectSets(5, 4);
+
+        assertEquals(3, verticesSets.amountOfSets());
+
+        assertTrue(verticesSets.areConnected(0, 1));
+        assertTrue(verticesSets.areConnected(2, 3));
+        assertTrue(verticesSets.areConnected(5, 4));
+        assertThatAreDisconnected(0, 1, new int[]{2, 3, 4, 5});
+        assertThatAreDisconnected(2, 3, new int[]{0, 1, 4, 5});
+        assertThatAreDisconnected(4, 5, new int[]{0, 1, 2, 3});
+    }
+
+    private void assertThatAreDisconnected(int vertex1, int vertex2, int[] ints) {
+        for (int vertex : ints) {
+            assertFalse(verticesSets.areConnected(vertex1, vertex));
+            assertFalse(verticesSets.areConnected(vertex2, vertex));
+        }
+    }
+
+    @Test
+    public void testJoin2() throws Exception {
+        verticesSets.connectSets(3, 5);
+        verticesSets.connectSets(0, 1);
+        verticesSets.connectSets(0, 3);
+        verticesSets.connectSets(4, 2);
+
+        assertTrue(verticesSets.areConnected(4, 2));
+        assertTrue(verticesSets.areConnected(3, 5));
+        assertTrue(verticesSets.areConnected(0, 1));
+        assertTrue(verticesSets.areConnected(0, 3));
+        assertTrue(verticesSets.areConnected(0, 5));
+        assertFalse(verticesSets.areConnected(0, 4));
+        assertFalse(verticesSets.areConnected(0, 2));
+
+        verticesSets.connectSets(2, 5);
+        assertTrue(verticesSets.areConnected(0, 4));
+        assertTrue(verticesSets.areConnected(0, 2));
+    }
+
+    @Test
+    public void testUnionReportsMerge() throws Exception {
+        assertTrue(verticesSets.union(0, 1));
+        assertFalse(verticesSets.union(1, 0));
+        assertFalse(verticesSets.union(2, 2));
+        assertEquals(5, verticesSets.amountOfSets());
+        assertEquals(verticesSets.find(0), verticesSets.find(1));
+    }
+
+    @Test
+    public void chainedUnionsShouldNotBuildLongPaths() throws Exception {
+        int size = 1 << 20;
+        // Joining each vertex to the previous one builds a path under naive linking, in either order
+        DisjointSets forward = new DisjointSets(size), backward = new DisjointSets(size);
+        for (int vertex = 1; vertex < size; vertex++) {
+            assertTrue(forward.union(vertex, vertex - 1));
+            assertTrue(backward.union(vertex - 1, vertex));
+        }
+
+        assertEquals(1, forward.amountOfSets());
+        assertEquals(1, backward.amountOfSets());
+        for (int vertex = 0; vertex < size; vertex++) {
+            assertTrue(forward.depth(vertex) <= 1);
+            assertTrue(backward.depth(vertex) <= 1);
+        }
+        assertTrue(forward.areConnected(0, size - 1));
+    }
+
+    @Test
+    public void unionByRankShouldKeepTreesLogarithmic() throws Exception {
+        int size = 1 << 16;
+        DisjointSets sets = new DisjointSets(size);
+
+        // Pairwise merges of equal sized sets are the worst case for union by rank
+        for (int step = 1; step < size; step <<= 1)
+            for (int vertex = 0; vertex + step < size; vertex += step << 1)
+                sets.union(vertex + step, vertex);
+
+        assertEquals(1, sets.amountOfSets());
+        for (int vertex = 0; vertex < size; vertex++)
+            assertTrue(sets.depth(vertex) <= 16);
+    }
+
+    @Test
+    public void pathHalvingShouldFlattenVisitedPaths() throws Exception {
+        int size = 1 << 16;
+        DisjointSets sets = new DisjointSets(size);
+        for (int step = 1; step < size; step <<= 1)
+            for (int vertex = 0; vertex + step < size; vertex += step << 1)
+                sets.union(vertex + step, vertex);
+
+        int deepest = 0;
+        for (int vertex = 0; vertex < size; vertex++)
+            if (sets.depth(vertex) > sets.depth(deepest))
+                deepest = vertex;
+
+        int before = sets.depth(deepest);
+        sets.find(deepest);
+        assertTrue(sets.depth(deepest) <= (before + 1) / 2);
+
+        for (int round = 0; round < 5; round++)
+            for (int vertex = 0; vertex < size; vertex++)
+                sets.find(vertex);
+        for (int vertex = 0; vertex < size; vertex++)
+            assertTrue(sets.depth(vertex) <= 1);
+    }
+
+    @Test
+    public void labelsShouldFollowTheLowestVertexOfEachSet() throws Exception {
+        DisjointSets set = new DisjointSets(6);
+        set.union(5, 3);
+        set.union(4, 1);
+        set.union(1, 0);
+        assertArrayEquals(new int[]{0, 0, 1, 2, 0, 2}, set.labels());
+    }
+}
@@ -0,0 +1,180 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DynamicMinimumSpanningTreeTest {
+
+    @Test
+    public void shouldReplaceTheHeaviestEdgeOfACycle() throws Exception {
+        Graph g = new Graph(3);
+        g.addEdge(0, 1, 1.0);
+        g.addEdge(1, 2, 5.0);
+        DynamicMinimumSpanningTree mst = new DynamicMinimumSpanningTree(3, Kruskal.minimumSpanningTree(g));
+
+        assertFalse(mst.addEdge(0, 2, 7.0));
+        assertFalse(mst.addEdge(1, 1, 0.0));
+        assertTrue(mst.addEdge(0, 2, 2.0));
+        assertEquals(Arrays.asList(new Edge(0, 1, 1.0), new Edge(0, 2, 2.0)), mst.edges());
+        assertEquals(2, mst.size());
+    }
+
+    @Test
+    public void shouldBreakTiesLikeKruskal() throws Exception {
+        DynamicMinimumSpanningTree mst = new DynamicMinimumSpanningTree(3, Arrays.asList(new Edge(1, 2, 0.5), new Edge(0, 2, 0.5)));
+        assertTrue(mst.addEdge(0, 1, 0.5));
+        assertEquals(Arrays.asList(new Edge(0, 1, 0.5), new Edge(0, 2, 0.5)), mst.edges());
+    }
+
+    @Test
+    public void shouldAlwaysMatchKruskal() throws Exception {
+        Random r = new Random(1234);
+        int vertices = 200;
+        Graph g = new Graph(vertices);
+        DynamicMinimumSpanningTree mst = new DynamicMinimumSpanningTree(vertices, Kruskal.minimumSpanningTree(g));
+        for (int i = 0; i < 3000; i++) {
+            int vertex1 = r.nextInt(vertices), vertex2 = r.nextInt(vertices);
+            double weight = r.nextInt(100);
+            if (g.addEdge(vertex1, vertex2, weight))
+                mst.addEdge(vertex1, vertex2, weight);
+            if (i % 50 == 0)
+                assertEquals(Kruskal.minimumSpanningTree(g), mst.edges());
+        }
+        assertEquals(Kruskal.minimumSpanningTree(g), mst.edges());
+    }
+
+    @Test
+    public void edgesShouldOnlyBeRemovedOnceIndexed() throws Exception {
+        EdgeList edges = new EdgeList();
+        edges.add(0, 1, 1.0);
+        edges.add(1, 2, 2.0);
+        DynamicMinimumSpanningTree mst = new DynamicMinimumSpanningTree(3, Kruskal.minimumSpanningTree(edges, 3));
+        assertFalse(mst.indexesEdges());
+        assertFalse(mst.addEdge(0, 2, 3.0));
+        edges.add(0, 2, 3.0);
+        assertTrue(mst.updateWeight(0, 2, 3.0, 0.5));
+        edges.setWeight(2, 0.5);
+        assertEquals(Arrays.asList(new Edge(0, 2, 0.5), new Edge(0, 1, 1.0)), mst.edges());
+        try {
+            mst.removeEdge(0, 1, 1.0);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("forest(2 edges): the edges out of it are not indexed", e.getMessage());
+        }
+
+        mst.indexEdges(edges);
+        assertTrue(mst.indexesEdges());
+        assertTrue(mst.removeEdge(0, 1, 1.0));
+        assertEquals(Arrays.asList(new Edge(0, 2, 0.5), new Edge(1, 2, 2.0)), mst.edges());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void indexedEdgesShouldHoldTheForest() throws Exception {
+        EdgeList edges = new EdgeList();
+        edges.add(0, 1, 1.0);
+        new DynamicMinimumSpanningTree(2, Arrays.asList(new Edge(0, 1, 2.0)), edges);
+    }
+
+    @Test
+    public void removingATreeEdgeShouldLinkTheLightestReplacement() throws Exception {
+        EdgeList edges = new EdgeList();
+        edges.add(0, 1, 1.0);
+        edges.add(2, 3, 1.0);
+        edges.add(1, 2, 2.0);
+        edges.add(1, 3, 3.0);
+        edges.add(0, 2, 5.0);
+        DynamicMinimumSpanningTree mst = new DynamicMinimumSpanningTree(4, Kruskal.minimumSpanningTree(edges, 4), edges);
+
+        assertFalse(mst.removeEdge(1, 2, 9.0));
+        assertTrue(mst.removeEdge(1, 2, 2.0));
+        assertEquals(Arrays.asList(new Edge(0, 1, 1.0), new Edge(2, 3, 1.0), new Edge(1, 3, 3.0)), mst.edges());
+
+        assertTrue(mst.removeEdge(3, 1, 3.0));
+        assertEquals(Arrays.asList(new Edge(0, 1, 1.0), new Edge(2, 3, 1.0), new Edge(0, 2, 5.0)), mst.edges());
+        assertFalse(mst.removeEdge(1, 3, 3.0));
+
+        assertTrue(mst.removeEdge(0, 2, 5.0));
+        assertEquals(2, mst.size());
+        assertFalse(mst.connected(0, 3));
+    }
+
+    @Test
+    public void reweightingShouldMoveEdgesInAndOutOfTheForest() throws Exception {
+        EdgeList edges = new EdgeList();
+        edges.add(0, 1, 1.0);
+        edges.add(1, 2, 2.0);
+        edges.add(0, 2, 3.0);
+        DynamicMinimumSpanningTree mst = new DynamicMinimumSpanningTree(3, Kruskal.minimumSpanningTree(edges, 3), edges);
+
+        assertFalse(mst.updateWeight(0, 2, 3.0, 4.0));
+        assertTrue(mst.updateWeight(1, 2, 2.0, 0.5));
+        assertEquals(Arrays.asList(new Edge(1, 2, 0.5), new Edge(0, 1, 1.0)), mst.edges());
+        assertTrue(mst.updateWeight(0, 1, 1.0, 6.0));
+        assertEquals(Arrays.asList(new Edge(1, 2, 0.5), new Edge(0, 2, 4.0)), mst.edges());
+    }
+
+    @Test
+    public void parallelEdgesShouldBeRemovedOutOfTheForestFirst() throws Exception {
+        EdgeList edges = new EdgeList();
+        edges.add(0, 1, 2.0);
+        DynamicMinimumSpanningTree mst = new DynamicMinimumSpanningTree(2, Kruskal.minimumSpanningTree(edges, 2), edges);
+        assertFalse(mst.addEdge(1, 0, 2.0));
+        assertFalse(mst.addEdge(0, 1, 3.0));
+        assertFalse(mst.removeEdge(0, 1, 2.0));
+        assertTrue(mst.removeEdge(0, 1, 2.0));
+        assertEquals(Arrays.asList(new Edge(0, 1, 3.0)), mst.edges());
+    }
+
+    @Test
+    public void nanWeightedEdgesShouldBeFoundToBeRemoved() throws Exception {
+        EdgeList edges = new EdgeList();
+        edges.add(0, 1, 1.0);
+        DynamicMinimumSpanningTree mst = new DynamicMinimumSpanningTree(3, Kruskal.minimumSpanningTree(edges, 3), edges);
+        assertTrue(mst.addEdge(0, 2, Double.NaN));
+        assertTrue(mst.removeEdge(2, 0, Double.NaN));
+        assertEquals(Arrays.asList(new Edge(0, 1, 1.0)), mst.edges());
+        assertFalse(mst.connected(0, 2));
+    }
+
+    @Test
+    public void shouldMatchKruskalWhileEdgesAreRemovedAndReweighted() throws Exception {
+        Random r = new Random(1234);
+        int vertices = 60;
+        EdgeList edges = new EdgeList();
+        for (int i = 0; i < 150; i++)
+            edges.add(r.nextInt(vertices), r.nextInt(vertices), r.nextInt(20));
+        DynamicMinimumSpanningTree mst = new DynamicMinimumSpanningTree(vertices, Kruskal.minimumSpanningTree(edges, vertices), edges);
+
+        for (int step = 0; step < 5000; step++) {
+            int operation = r.nextInt(3);
+            if (operation == 0 || edges.size() == 0) {
+                int vertex1 = r.nextInt(vertices), vertex2 = r.nextInt(vertices);
+                double weight = r.nextInt(20);
+                edges.add(vertex1, vertex2, weight);
+                mst.addEdge(vertex1, vertex2, weight);
+            } else {
+                int position = r.nextInt(edges.size());
+                int vertex1 = edges.lowVertex(position), vertex2 = edges.highVertex(position);
+                double weight = edges.weight(position);
+                if (operation == 1) {
+                    edges.remove(position);
+                    mst.removeEdge(vertex1, vertex2, weight);
+                } else {
+                    double newWeight = r.nextInt(20);
+                    edges.setWeight(position, newWeight);
+                    mst.updateWeight(vertex1, vertex2, weight, newWeight);
+                }
+            }
+            if (step % 25 == 0) {
+                List<Edge> expected = Kruskal.minimumSpanningTree(edges, vertices);
+                assertEquals(expected, mst.edges());
+                assertEquals(expected.size(), mst.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class EdgeListTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() throws Exception {
+        new EdgeList(-1);
+    }
+
+    @Test
+    public void shouldStoreVerticesFromLowToHigh() throws Exception {
+        EdgeList edges = new EdgeList(0);
+        assertEquals(0, edges.add(9, 5, 3.0));
+        assertEquals(5, edges.lowVertex(0));
+        assertEquals(9, edges.highVertex(0));
+        assertEquals(3.0, edges.weight(0), 0.0);
+        assertEquals(new Edge(5, 9, 3.0), edges.edge(0));
+    }
+
+    @Test
+    public void shouldGrowBeyondItsInitialCapacity() throws Exception {
+        EdgeList edges = new EdgeList(1);
+        for (int vertex = 0; vertex < 1000; vertex++)
+            edges.add(vertex, vertex + 1, vertex);
+        assertEquals(1000, edges.size());
+        assertEquals(new Edge(999, 1000, 999), edges.edge(999));
+    }
+
+    @Test
+    public void shouldNotGrowBeyondItsMaximumCapacity() throws Exception {
+        EdgeList edges = new EdgeList(4);
+        try {
+            edges.ensureCapacity(Integer.MAX_VALUE + 2);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("capacity(2147483649): is more than an EdgeList can hold {0.." + EdgeList.MAX_CAPACITY + "}", e.getMessage());
+        }
+        edges.add(0, 1, 1.0);
+        assertEquals(1, edges.size());
+    }
+
+    @Test
+    public void shouldOnlyBeUnsortedAfterAnOutOfOrderInsertion() throws Exception {
+        EdgeList edges = new EdgeList();
+        assertTrue(edges.isSorted());
+        edges.add(0, 1, 1.0);
+        edges.add(0, 2, 1.0);
+        edges.add(1, 2, 2.0);
+        assertTrue(edges.isSorted());
+        edges.add(0, 3, 1.5);
+        assertFalse(edges.isSorted());
+        edges.sort();
+        assertTrue(edges.isSorted());
+    }
+
+    @Test
+    public void shouldOnlyBeUnsortedAfterAnOutOfOrderWeight() throws Exception {
+        EdgeList edges = new EdgeList();
+        edges.add(0, 1, 1.0);
+        edges.add(0, 2, 2.0);
+        edges.add(1, 2, 3.0);
+        edges.setWeight(1, 2.5);
+        assertTrue(edges.isSorted());
+        edges.setWeight(2, 0.5);
+        assertFalse(edges.isSorted());
+        edges.sort();
+        assertEquals(Arrays.asList(new Edge(1, 2, 0.5), new Edge(0, 1, 1.0), new Edge(0, 2, 2.5)), edges.toList());
+    }
+
+    @Test
+    public void weightsShouldBeStoredAsTheirType() throws Exception {
+        EdgeList floats = new EdgeList(0, WeightType.FLOAT);
+        floats.add(0, 1, 0.1);
+        assertEquals((float) 0.1, floats.weight(0), 0);
+        assertEquals(WeightType.FLOAT, floats.weightType());
+
+        EdgeList shorts = new EdgeList(0, WeightType.SHORT);
+        for (int weight = 100; weight >= 0; weight--)
+            shorts.add(weight, weight + 1, weight * 600);
+        shorts.setWeight(0, 65535);
+        shorts.sort();
+        assertEquals(new Edge(0, 1, 0), shorts.edge(0));
+        assertEquals(new Edge(99, 100, 59400), shorts.edge(99));
+        assertEquals(new Edge(100, 101, 65535), shorts.edge(100));
+        assertEquals(65535, shorts.intWeight(100));
+    }
+
+    @Test
+    public void batchesShouldBeAddedLikeSingleEdges() throws Exception {
+        EdgeList edges = new EdgeList(0, WeightType.FLOAT);
+        edges.add(0, 1, 0.5);
+        edges.addAll(new int[]{9, 2, 3, 1}, new int[]{9, 1, 4, 0}, new double[]{9, 0.5, 0.75, 0.1}, 1, 3);
+        assertEquals(Arrays.asList(new Edge(0, 1, 0.5), new Edge(1, 2, 0.5), new Edge(3, 4, 0.75)), edges.toList());
+        assertTrue(edges.isSorted());
+
+        edges.addAll(new int[]{1, 5}, new int[]{0, 6}, new double[]{0.1, 2}, 0, 2);
+        assertEquals(new Edge(0, 1, (float) 0.1), edges.edge(3));
+        assertEquals(5, edges.size());
+        assertFalse(edges.isSorted());
+    }
+
+    @Test
+    public void shouldSortLikeEdgeCompareTo() throws Exception {
+        Random r = new Random(1234);
+        EdgeList edges = new EdgeList();
+        List<Edge> expected = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            int vertex1 = r.nextInt(100), vertex2 = r.nextInt(100);
+            double weight = r.nextInt(20) / 4.0;
+            edges.add(vertex1, vertex2, weight);
+            expected.add(new Edge(vertex1, vertex2, weight));
+        }
+        Collections.sort(expected);
+        edges.sort();
+        assertEquals(expected, edges.toList());
+    }
+
+    @Test
+    public void compareShouldBreakTiesByVertices() throws Exception {
+        EdgeList edges = new EdgeList();
+        edges.add(2, 3, 1.0);
+        edges.add(1, 4, 1.0);
+        edges.add(1, 3, 1.0);
+        edges.add(0, 9, 0.5);
+        edges.sort();
+        assertEquals(
+                Arrays.asList(new Edge(0, 9, 0.5), new Edge(1, 3, 1.0), new Edge(1, 4, 1.0), new Edge(2, 3, 1.0)),
+                edges.toList());
+    }
+}
@@ -0,0 +1,98 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class EdgeSorterTest {
+
+    @Test
+    public void weightKeysShouldFollowDoubleCompare() throws Exception {
+        double[] weights = {-0.0, 0.0, Double.MIN_VALUE, 0.5, 1.0, 3.0, 1e300, Double.POSITIVE_INFINITY, Double.NaN};
+        for (int i = 0; i + 1 < weights.length; i++) {
+            assertTrue(Double.compare(weights[i], weights[i + 1]) < 0);
+            assertTrue(Long.compareUnsigned(EdgeSorter.weightKey(weights[i]), EdgeSorter.weightKey(weights[i + 1])) < 0);
+        }
+    }
+
+    @Test
+    public void radixSortShouldKeepTheTieBreakOfEdgeCompareTo() throws Exception {
+        assertSortedLikeCollections(new Random(1234), 50000, 1 << 20, 8);
+        assertSortedLikeCollections(new Random(4321), 50000, 50, 1 << 30);
+        assertSortedLikeCollections(new Random(42), 50000, Integer.MAX_VALUE, 3);
+    }
+
+    @Test
+    public void integralWeightsShouldBeSortedLikeEdgeCompareTo() throws Exception {
+        for (WeightType weightType : new WeightType[]{WeightType.INT, WeightType.SHORT}) {
+            // Counting sort, and radix sort for a range of weights larger than the amount of edges
+            assertIntegralSortedLikeCollections(new Random(7), weightType, 50000, 1000, 300);
+            assertIntegralSortedLikeCollections(new Random(8), weightType, 5000, 1 << 20, WeightType.MAX_SHORT_WEIGHT + 1);
+        }
+        assertIntegralSortedLikeCollections(new Random(9), WeightType.INT, 5000, 1 << 20, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void shouldSortOnlyTheGivenRange() throws Exception {
+        EdgeList edges = new EdgeList();
+        for (int vertex = 0; vertex < 2000; vertex++)
+            edges.add(vertex, vertex + 1, 2000 - vertex);
+        int[] positions = new int[edges.size()];
+        for (int i = 0; i < positions.length; i++)
+            positions[i] = i;
+
+        EdgeSorter.sort(edges, positions, 10, 1990);
+
+        for (int i = 0; i < 10; i++)
+            assertEquals(i, positions[i]);
+        for (int i = 1990; i < 2000; i++)
+            assertEquals(i, positions[i]);
+        for (int i = 10; i < 1990; i++)
+            assertEquals(1989 - (i - 10), positions[i]);
+    }
+
+    private void assertSortedLikeCollections(Random r, int amount, int vertices, int distinctWeights) {
+        EdgeList edges = new EdgeList(amount);
+        List<Edge> expected = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            int vertex1 = r.nextInt(vertices), vertex2 = r.nextInt(vertices);
+            double weight = r.nextInt(distinctWeights) * 0.125;
+            edges.add(vertex1, vertex2, weight);
+            expected.add(new Edge(vertex1, vertex2, weight));
+        }
+        int[] positions = new int[amount];
+        for (int i = 0; i < amount; i++)
+            positions[i] = i;
+
+        EdgeSorter.sort(edges, positions, 0, amount);
+        Collections.sort(expected);
+
+        for (int i = 0; i < amount; i++)
+            assertEquals(expected.get(i), edges.edge(positions[i]));
+    }
+
+    private void assertIntegralSortedLikeCollections(Random r, WeightType weightType, int amount, int vertices, int distinctWeights) {
+        EdgeList edges = new EdgeList(amount, weightType);
+        List<Edge> expected = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            int vertex1 = r.nextInt(vertices), vertex2 = r.nextInt(vertices);
+            double weight = r.nextInt(distinctWeights);
+            edges.add(vertex1, vertex2, weight);
+            expected.add(new Edge(vertex1, vertex2, weight));
+        }
+        int[] positions = new int[amount];
+        for (int i = 0; i < amount; i++)
+            positions[i] = i;
+
+        EdgeSorter.sort(edges, positions, 0, amount);
+        Collections.sort(expected);
+
+        for (int i = 0; i < amount; i++)
+            assertEquals(expected.get(i), edges.edge(positions[i]));
+    }
+}
@@ -1,3 +1,5 @@
+package kruskal;
+
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -0,0 +1,146 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class EulerTourForestTest {
+
+    @Test
+    public void shouldLinkAndCut() throws Exception {
+        EulerTourForest forest = new EulerTourForest(5);
+        int edge01 = forest.link(0, 1);
+        int edge21 = forest.link(2, 1);
+        forest.link(3, 4);
+        assertTrue(forest.connected(0, 2));
+        assertFalse(forest.connected(0, 3));
+        assertEquals(3, forest.treeSize(1));
+        forest.cut(edge21);
+        assertFalse(forest.connected(0, 2));
+        assertTrue(forest.connected(0, 1));
+        assertEquals(1, forest.treeSize(2));
+        forest.link(4, 2);
+        assertTrue(forest.connected(3, 2));
+        forest.cut(edge01);
+        assertEquals(1, forest.treeSize(0));
+        assertEquals(1, forest.treeSize(1));
+        assertEquals(3, forest.treeSize(4));
+    }
+
+    @Test
+    public void shouldFindTheLeastKeyOfEachTree() throws Exception {
+        EulerTourForest forest = new EulerTourForest(4);
+        forest.link(0, 1);
+        forest.link(2, 3);
+        assertEquals(-1, forest.minKeyVertex(0));
+        forest.setKey(1, 2.0, 7);
+        forest.setKey(0, 2.0, 9);
+        forest.setKey(3, 1.0, 0);
+        assertEquals(1, forest.minKeyVertex(0));
+        assertEquals(3, forest.minKeyVertex(2));
+        forest.clearKey(1);
+        assertEquals(0, forest.minKeyVertex(1));
+        forest.link(1, 2);
+        assertEquals(3, forest.minKeyVertex(0));
+    }
+
+    @Test
+    public void linkingAllAtOnceShouldMatchLinkingOneByOne() throws Exception {
+        Random r = new Random(42);
+        int size = 300;
+        int[] vertices1 = new int[size - 1], vertices2 = new int[size - 1];
+        int amountOfEdges = 0;
+        for (int vertex = 1; vertex < size; vertex++)
+            if (vertex % 50 != 0) {
+                vertices1[amountOfEdges] = vertex;
+                vertices2[amountOfEdges++] = r.nextInt(vertex);
+            }
+        EulerTourForest bulk = new EulerTourForest(size), single = new EulerTourForest(size);
+        for (int vertex = 0; vertex < size; vertex += 7) {
+            bulk.setKey(vertex, vertex % 13, vertex);
+            single.setKey(vertex, vertex % 13, vertex);
+        }
+        bulk.linkAll(vertices1, vertices2, amountOfEdges);
+        for (int edge = 0; edge < amountOfEdges; edge++)
+            assertEquals(edge, single.link(vertices1[edge], vertices2[edge]));
+
+        int[] handles = new int[amountOfEdges];
+        boolean[] linked = new boolean[amountOfEdges];
+        for (int edge = 0; edge < amountOfEdges; edge++) {
+            handles[edge] = edge;
+            linked[edge] = true;
+        }
+        for (int step = 0; step < 3000; step++) {
+            int edge = r.nextInt(amountOfEdges);
+            if (linked[edge]) {
+                bulk.cut(handles[edge]);
+                single.cut(handles[edge]);
+                linked[edge] = false;
+            } else if (!bulk.connected(vertices1[edge], vertices2[edge])) {
+                handles[edge] = bulk.link(vertices1[edge], vertices2[edge]);
+                assertEquals(handles[edge], single.link(vertices1[edge], vertices2[edge]));
+                linked[edge] = true;
+            }
+            int vertex1 = r.nextInt(size), vertex2 = r.nextInt(size);
+            assertEquals(single.connected(vertex1, vertex2), bulk.connected(vertex1, vertex2));
+            assertEquals(single.treeSize(vertex1), bulk.treeSize(vertex1));
+            assertEquals(single.minKeyVertex(vertex2), bulk.minKeyVertex(vertex2));
+        }
+    }
+
+    @Test
+    public void shouldMatchANaiveForest() throws Exception {
+        Random r = new Random(1234);
+        int size = 200;
+        EulerTourForest forest = new EulerTourForest(size);
+        int[] component = new int[size];
+        double[] keys = new double[size];
+        List<int[]> edges = new ArrayList<>();
+        for (int vertex = 0; vertex < size; vertex++) {
+            component[vertex] = vertex;
+            keys[vertex] = Double.NaN;
+        }
+
+        for (int step = 0; step < 20000; step++) {
+            int vertex1 = r.nextInt(size), vertex2 = r.nextInt(size);
+            int operation = r.nextInt(4);
+            if (operation == 0 && component[vertex1] != component[vertex2]) {
+                edges.add(new int[]{vertex1, vertex2, forest.link(vertex1, vertex2)});
+                relabel(component, edges, size);
+            } else if (operation == 1 && !edges.isEmpty()) {
+                forest.cut(edges.remove(r.nextInt(edges.size()))[2]);
+                relabel(component, edges, size);
+            } else if (operation == 2) {
+                keys[vertex1] = r.nextInt(30);
+                forest.setKey(vertex1, keys[vertex1], vertex1);
+            } else {
+                keys[vertex1] = Double.NaN;
+                forest.clearKey(vertex1);
+            }
+
+            assertEquals(component[vertex1] == component[vertex2], forest.connected(vertex1, vertex2));
+            int expectedSize = 0, expectedMin = -1;
+            for (int vertex = 0; vertex < size; vertex++) {
+                if (component[vertex] != component[vertex2])
+                    continue;
+                expectedSize++;
+                if (!Double.isNaN(keys[vertex]) && (expectedMin < 0 || keys[vertex] < keys[expectedMin]))
+                    expectedMin = vertex;
+            }
+            assertEquals(expectedSize, forest.treeSize(vertex2));
+            assertEquals(expectedMin, forest.minKeyVertex(vertex2));
+        }
+    }
+
+    private void relabel(int[] component, List<int[]> edges, int size) {
+        DisjointSets sets = new DisjointSets(size);
+        for (int[] edge : edges)
+            sets.union(edge[0], edge[1]);
+        for (int vertex = 0; vertex < size; vertex++)
+            component[vertex] = sets.find(vertex);
+    }
+}
@@ -0,0 +1,94 @@
+package kruskal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ExternalKruskalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldStreamSortedFiles() throws Exception {
+        Graph graph = new Graph(2000, 10000, new Random(1234));
+        Path path = folder.newFile().toPath();
+        GraphFile.write(graph, path);
+        File spill = folder.newFolder();
+
+        assertEquals(Kruskal.minimumSpanningTree(graph), ExternalKruskal.minimumSpanningTree(path, 100, spill.toPath()));
+        assertEquals(0, spill.list().length);
+    }
+
+    @Test
+    public void shouldMergeRunsOfUnsortedFiles() throws Exception {
+        Random r = new Random(42);
+        int vertices = 3000, edges = 20000;
+        Graph graph = new Graph(vertices);
+        int[] vertices1 = new int[edges], vertices2 = new int[edges];
+        double[] weights = new double[edges];
+        for (int i = 0; i < edges; ) {
+            vertices1[i] = i < vertices - 1 ? i + 1 : r.nextInt(vertices);
+            vertices2[i] = i < vertices - 1 ? r.nextInt(i + 1) : r.nextInt(vertices);
+            weights[i] = r.nextInt(500);
+            if (graph.addEdge(vertices1[i], vertices2[i], weights[i]))
+                i++;
+        }
+        Path path = file(vertices, 0, vertices1, vertices2, weights);
+        File spill = folder.newFolder();
+
+        assertEquals(Kruskal.minimumSpanningTree(graph), ExternalKruskal.minimumSpanningTree(path, 777, spill.toPath()));
+        assertEquals(Kruskal.minimumSpanningTree(graph), ExternalKruskal.minimumSpanningTree(path));
+        assertEquals(0, spill.list().length);
+    }
+
+    @Test
+    public void shouldReturnAForestForDisconnectedGraphs() throws Exception {
+        Path path = file(5, 0, new int[]{4, 0, 1, 3}, new int[]{3, 1, 0, 3}, new double[]{1.0, 2.0, 0.5, 0.0});
+        assertEquals(Arrays.asList(new Edge(0, 1, 0.5), new Edge(3, 4, 1.0)), ExternalKruskal.minimumSpanningTree(path, 2, null));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectFilesFalselyFlaggedAsSorted() throws Exception {
+        ExternalKruskal.minimumSpanningTree(file(3, GraphFile.SORTED, new int[]{0, 0}, new int[]{1, 2}, new double[]{2.0, 1.0}));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectVerticesOutOfRange() throws Exception {
+        ExternalKruskal.minimumSpanningTree(file(3, 0, new int[]{0}, new int[]{3}, new double[]{2.0}));
+    }
+
+    @Test
+    public void shouldRejectNegativeWeights() throws Exception {
+        for (int flags : new int[]{0, GraphFile.SORTED}) {
+            try {
+                ExternalKruskal.minimumSpanningTree(file(3, flags, new int[]{0, 1}, new int[]{1, 2}, new double[]{-1.0, 2.0}), 1, null);
+                fail();
+            } catch (IOException e) {
+                assertTrue(e.getMessage().endsWith("weight(-1.0): Weight must not be negative"));
+            }
+        }
+    }
+
+    private Path file(int vertices, int flags, int[] vertices1, int[] vertices2, double[] weights) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(GraphFile.HEADER_SIZE + weights.length * GraphFile.RECORD_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(GraphFile.MAGIC).putInt(GraphFile.VERSION).putInt(vertices).putInt(flags).putLong(weights.length);
+        for (int i = 0; i < weights.length; i++)
+            buffer.putInt(vertices1[i]).putInt(vertices2[i]).putDouble(weights[i]);
+        Path path = folder.newFile().toPath();
+        Files.write(path, buffer.array());
+        return path;
+    }
+}
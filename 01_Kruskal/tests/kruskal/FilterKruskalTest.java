@@ -0,0 +1,58 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class FilterKruskalTest {
+
+    @Test
+    public void should_handle_trivial_graphs() throws Exception {
+        Graph g = new Graph(1);
+        g.addEdge(0, 0, 0.0);
+        assertEquals(Arrays.asList(), FilterKruskal.minimumSpanningTree(g));
+        assertEquals(Arrays.asList(), FilterKruskal.minimumSpanningTree(new Graph(0)));
+    }
+
+    @Test
+    public void should_break_ties_like_kruskal() throws Exception {
+        Graph g = new Graph(4);
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 2, 1);
+        g.addEdge(2, 3, 1);
+        g.addEdge(3, 0, 1);
+        assertEquals(Kruskal.minimumSpanningTree(g), FilterKruskal.minimumSpanningTree(g));
+    }
+
+    @Test
+    public void should_return_the_same_tree_as_kruskal() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int multiplier = 1; multiplier <= 16; multiplier *= 4) {
+                Graph parallel = new Graph(20000, 20000 * multiplier, new Random(multiplier));
+                Graph sequential = new Graph(20000, 20000 * multiplier, new Random(multiplier));
+                List<Edge> expected = Kruskal.minimumSpanningTree(sequential);
+                assertEquals(expected, FilterKruskal.minimumSpanningTree(parallel, pool));
+                assertEquals(expected, FilterKruskal.minimumSpanningTree(sequential, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void should_return_a_forest_for_disconnected_graphs() throws Exception {
+        Graph g = new Graph(30000);
+        Random r = new Random(7);
+        for (int i = 0; i < 100000; i++) {
+            int vertex1 = r.nextInt(15000), vertex2 = r.nextInt(15000);
+            g.addEdge(vertex1 * 2, vertex2 * 2, r.nextInt(100));
+        }
+        assertEquals(Kruskal.lazyMinimumSpanningTree(g), FilterKruskal.minimumSpanningTree(g));
+    }
+}
@@ -0,0 +1,93 @@
+package kruskal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class GraphFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadWhatWasWritten() throws Exception {
+        Graph graph = new Graph(1000, 5000, new Random(1234));
+        Path path = folder.newFile().toPath();
+        GraphFile.write(graph, path);
+
+        assertEquals(GraphFile.HEADER_SIZE + (long) graph.amountOfEdges() * GraphFile.RECORD_SIZE, Files.size(path));
+        Graph read = GraphFile.read(path);
+        assertEquals(graph.amountOfVertex(), read.amountOfVertex());
+        assertTrue(read.edgeList().isSorted());
+        assertEquals(graph.edges(), read.edges());
+        assertEquals(graph.getMinimumSpanningTree(), read.getMinimumSpanningTree());
+    }
+
+    @Test
+    public void shouldReadEmptyGraphs() throws Exception {
+        Path path = folder.newFile().toPath();
+        GraphFile.write(new Graph(0), path);
+        Graph read = GraphFile.read(path);
+        assertTrue(read.isEmpty());
+        assertEquals(0, read.amountOfEdges());
+    }
+
+    @Test
+    public void shouldSortUnsortedFilesOnlyWhenNeeded() throws Exception {
+        Path path = file(3, 0, new int[]{1, 2, 0}, new int[]{0, 1, 2}, new double[]{1.0, 0.5, 1.0});
+        Graph read = GraphFile.read(path);
+        assertFalse(read.edgeList().isSorted());
+        assertEquals(Arrays.asList(new Edge(1, 2, 0.5), new Edge(0, 1, 1.0), new Edge(0, 2, 1.0)), read.edges());
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectFilesFalselyFlaggedAsSorted() throws Exception {
+        GraphFile.read(file(3, GraphFile.SORTED, new int[]{0, 0}, new int[]{1, 2}, new double[]{2.0, 1.0}));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectRepeatedEdges() throws Exception {
+        GraphFile.read(file(3, 0, new int[]{0, 1}, new int[]{1, 0}, new double[]{2.0, 1.0}));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectVerticesOutOfRange() throws Exception {
+        GraphFile.read(file(3, 0, new int[]{0}, new int[]{3}, new double[]{2.0}));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectOtherFiles() throws Exception {
+        Path path = folder.newFile().toPath();
+        Files.write(path, "this is not a graph, just some text".getBytes());
+        GraphFile.read(path);
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectTruncatedFiles() throws Exception {
+        Path path = file(3, 0, new int[]{0, 1}, new int[]{1, 2}, new double[]{2.0, 1.0});
+        byte[] content = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(content, content.length - 1));
+        GraphFile.read(path);
+    }
+
+    private Path file(int vertices, int flags, int[] vertices1, int[] vertices2, double[] weights) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(GraphFile.HEADER_SIZE + weights.length * GraphFile.RECORD_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(GraphFile.MAGIC).putInt(GraphFile.VERSION).putInt(vertices).putInt(flags).putLong(weights.length);
+        for (int i = 0; i < weights.length; i++)
+            buffer.putInt(vertices1[i]).putInt(vertices2[i]).putDouble(weights[i]);
+        Path path = folder.newFile().toPath();
+        Files.write(path, buffer.array());
+        return path;
+    }
+}
@@ -0,0 +1,76 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class GraphGeneratorTest {
+
+    @Test
+    public void graphsShouldOnlyDependOnTheSeedAndTheChunks() throws Exception {
+        ForkJoinPool single = new ForkJoinPool(1), many = new ForkJoinPool(4);
+        try {
+            for (GraphGenerator.Model model : GraphGenerator.Model.values()) {
+                Graph graph = GraphGenerator.generate(model, 5000, 20000, 42, 16, single);
+                assertEquals(model.name(), graph.edges(), GraphGenerator.generate(model, 5000, 20000, 42, 16, many).edges());
+                assertNotEquals(model.name(), graph.edges(), GraphGenerator.generate(model, 5000, 20000, 43, 16, many).edges());
+            }
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    public void treePlusExtrasShouldBeConnected() throws Exception {
+        Graph graph = GraphGenerator.generate(GraphGenerator.Model.TREE_PLUS_EXTRAS, 10000, 30000, 1);
+        assertTrue(graph.isConnected());
+        assertTrue(graph.amountOfEdges() > 29000);
+    }
+
+    @Test
+    public void gridsShouldJoinNeighbours() throws Exception {
+        // 3 columns: 0 1 2 / 3 4 5 / 6
+        Graph graph = GraphGenerator.generate(GraphGenerator.Model.GRID, 7, 0, 1);
+        assertEquals(8, graph.amountOfEdges());
+        assertTrue(graph.isConnected());
+        for (Edge edge : graph.edges()) {
+            int difference = edge.getHighVertex() - edge.getLowVertex();
+            assertTrue(difference == 3 || (difference == 1 && edge.getLowVertex() % 3 != 2));
+        }
+    }
+
+    @Test
+    public void modelsShouldNotDrawLoops() throws Exception {
+        for (GraphGenerator.Model model : GraphGenerator.Model.values()) {
+            Graph graph = GraphGenerator.generate(model, 1000, 5000, 7);
+            for (Edge edge : graph.edges()) {
+                assertFalse(model.name(), edge.isLoop());
+                assertTrue(edge.weight() >= 0 && edge.weight() < 1.5);
+            }
+        }
+    }
+
+    @Test
+    public void geometricEdgesShouldOnlyJoinNeighbouringCells() throws Exception {
+        Graph graph = GraphGenerator.generate(GraphGenerator.Model.GEOMETRIC, 1000, 5000, 7);
+        // 1000 vertices at 4 per cell make a 15x15 grid, and neighbouring cells are at most 2 diagonals of a cell apart
+        double maxDistance = 2 * Math.sqrt(2) / 15;
+        assertTrue(graph.maxWeight() <= maxDistance);
+    }
+
+    @Test
+    public void smallGraphsShouldHaveNoEdges() throws Exception {
+        for (GraphGenerator.Model model : GraphGenerator.Model.values()) {
+            assertEquals(0, GraphGenerator.generate(model, 1, 100, 7).amountOfEdges());
+            assertEquals(0, GraphGenerator.generate(model, 0, 100, 7).amountOfEdges());
+        }
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void chunksShouldBePositive() throws Exception {
+        GraphGenerator.generate(GraphGenerator.Model.RMAT, 10, 10, 1, 0, ForkJoinPool.commonPool());
+    }
+}
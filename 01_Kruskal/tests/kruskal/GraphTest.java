@@ -0,0 +1,615 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class GraphTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeVertices() throws Exception {
+        new Graph(-1);
+    }
+
+    @Test
+    public void shouldCreateEmptyGraph() throws Exception {
+
+        Graph g = new Graph(0);
+        assertTrue(g.isEmpty());
+        assertEquals(0, g.amountOfVertex());
+        assertEquals(0, g.amountOfEdges());
+        assertFalse(g.containsVertex(-1));
+        assertFalse(g.containsVertex(0));
+        assertFalse(g.containsVertex(1));
+
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldNotAddEdgeToEmptyGraph() throws Exception {
+        Graph g = new Graph(0);
+        g.addEdge(0, 0, 3.0);
+    }
+
+    @Test
+    public void shouldCreateGraphOfGivenSize() throws Exception {
+
+        int size = 5;
+        Graph g = new Graph(size);
+
+        assertEquals(size, g.amountOfVertex());
+        assertEquals(0, g.amountOfEdges());
+
+        assertFalse(g.containsVertex(size));
+        assertFalse(g.containsVertex(-1));
+        for (int vertex = 0; vertex < size; vertex++)
+            assertTrue(g.containsVertex(vertex));
+
+    }
+
+    @Test
+    public void shouldAddEdgesBetweenExistingVertices() throws Exception {
+        Graph graph = new Graph(3);
+        assertTrue(graph.addEdge(0, 0, 0.0));
+        assertTrue(graph.addEdge(0, 1, 1.0));
+        assertTrue(graph.addEdge(0, 2, 3.0));
+        assertTrue(graph.addEdge(1, 2, 4.0));
+        assertEquals(4, graph.amountOfEdges());
+    }
+
+    @Test
+    public void shouldNotAddEdgeIfAlreadyExists() {
+        Graph graph = new Graph(3);
+        assertTrue (graph.addEdge(0, 1, 2.0));
+        assertFalse(graph.addEdge(0, 1, 2.0));
+        assertFalse(graph.addEdge(0, 1, 9.0));
+        //assertTrue (graph.addEdge(0, 1, 1.0));
+        assertEquals(1, graph.amountOfEdges());
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void shouldNotAddInvalidEdge1() throws Exception {
+        new Graph(3).addEdge(1, -1, 3.0);
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void shouldNotAddInvalidEdge2() throws Exception {
+        new Graph(7).addEdge(0, 10, 1.0);
+    }
+
+    @Test
+    public void testGraphSummary() throws Exception {
+        Graph graph = new Graph(3);
+
+        assertEquals("Graph { 3 vertices; 0 edges; total weight = 0.0 }", graph.toString());
+        graph.addEdge(0, 0, 0.0);
+        graph.addEdge(0, 1, 1.0);
+        graph.addEdge(0, 2, 3.0);
+        graph.addEdge(1, 2, 6.0);
+        assertEquals("Graph { 3 vertices; 4 edges; total weight = 10.0 }", graph.toString());
+    }
+
+    @Test
+    public void shouldNotBeConnected() {
+        Graph graph = new Graph(7);
+        assertFalse(graph.isConnected());
+        graph.addEdge(0, 3, 1.0);
+        graph.addEdge(2, 3, 1.0);
+        graph.addEdge(3, 4, 1.0);
+        graph.addEdge(5, 4, 1.0);
+        graph.addEdge(0, 6, 1.0);
+        assertFalse(graph.isConnected());
+    }
+
+
+    @Test
+    public void shouldBeConnected() {
+        Graph graph = new Graph(7);
+        assertFalse(graph.isConnected());
+        graph.addEdge(0, 3, 1.0);
+        graph.addEdge(2, 3, 1.0);
+        graph.addEdge(3, 4, 1.0);
+        graph.addEdge(5, 4, 1.0);
+        graph.addEdge(0, 6, 1.0);
+        graph.addEdge(0, 1, 9.0);
+        assertTrue(graph.isConnected());
+    }
+
+    @Test
+    public void shouldReturnOrderedListOfEdges() throws Exception {
+        Graph graph = new Graph(3);
+        graph.addEdge(2, 1, 0.5);
+        graph.addEdge(0, 2, 1.0);
+        graph.addEdge(1, 0, 1.0);
+        graph.addEdge(0, 0, 0.0);
+        List<Edge> expectedList = Arrays.asList(
+                new Edge(0, 0, 0.0),
+                new Edge(1, 2, 0.5),
+                new Edge(0, 1, 1.0),
+                new Edge(0, 2, 1.0)
+        );
+        assertEquals(expectedList, graph.edges());
+    }
+
+    @Test
+    public void denseGraphsShouldHaveTheSameMinimumSpanningTree() throws Exception {
+        int vertices = 500, edges = vertices * Graph.PRIM_DENSITY_THRESHOLD * 2;
+        Graph dense = new Graph(vertices, edges, new Random(1));
+        assertEquals(Kruskal.minimumSpanningTree(new Graph(vertices, edges, new Random(1))), dense.getMinimumSpanningTree());
+    }
+
+    @Test
+    public void minimumSpanningTreeShouldFollowAddedEdges() throws Exception {
+        Random r = new Random(42);
+        Graph graph = new Graph(300, 600, r);
+        graph.getMinimumSpanningTree();
+        for (int i = 0; i < 2000; i++) {
+            graph.addEdge(r.nextInt(300), r.nextInt(300), r.nextDouble() / 4);
+            if (i % 100 == 0)
+                assertEquals(Kruskal.minimumSpanningTree(graph), graph.getMinimumSpanningTree());
+        }
+        assertEquals(Kruskal.minimumSpanningTree(graph), graph.getMinimumSpanningTree());
+    }
+
+    @Test
+    public void batchesShouldSkipRepeatedEdges() throws Exception {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 2.0);
+        EdgeList batch = new EdgeList();
+        batch.add(1, 0, 1.0);
+        batch.add(1, 2, 1.0);
+        batch.add(2, 1, 0.5);
+        assertEquals(1, graph.addEdges(batch));
+        assertEquals(Arrays.asList(new Edge(1, 2, 1.0), new Edge(0, 1, 2.0)), graph.edges());
+    }
+
+    @Test
+    public void invalidBatchesShouldNotAddAnyEdge() throws Exception {
+        Graph graph = new Graph(3);
+        EdgeList batch = new EdgeList();
+        batch.add(0, 1, 1.0);
+        batch.add(1, 3, 1.0);
+        try {
+            graph.addEdges(batch);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals(0, graph.amountOfEdges());
+        }
+    }
+
+    @Test
+    public void arrayBatchesShouldBeAddedLikeSingleEdges() throws Exception {
+        Random r = new Random(21);
+        int[] vertices1 = new int[5000], vertices2 = new int[5000];
+        double[] weights = new double[5000];
+        Graph expected = new Graph(400);
+        for (int i = 0; i < weights.length; i++) {
+            vertices1[i] = r.nextInt(400);
+            vertices2[i] = r.nextInt(400);
+            weights[i] = r.nextDouble();
+            expected.addEdge(vertices1[i], vertices2[i], weights[i]);
+        }
+
+        Graph graph = new Graph(400, weights.length);
+        assertEquals(expected.amountOfEdges(), graph.addEdges(vertices1, vertices2, weights));
+        assertEquals(expected.edges(), graph.edges());
+        assertEquals(expected.getMinimumSpanningTree(), graph.getMinimumSpanningTree());
+
+        Graph buffered = new Graph(400);
+        IntBuffer buffer1 = ByteBuffer.allocateDirect(4 * 5000).asIntBuffer().put(vertices1).flip();
+        DoubleBuffer weightBuffer = DoubleBuffer.wrap(weights, 1000, 4000);
+        buffer1.position(1000);
+        IntBuffer buffer2 = IntBuffer.wrap(vertices2).position(1000);
+        assertEquals(buffered.addEdges(buffer1, buffer2, weightBuffer), buffered.amountOfEdges());
+        assertFalse(weightBuffer.hasRemaining());
+        assertFalse(buffer1.hasRemaining());
+
+        Graph slice = new Graph(400);
+        slice.addEdges(Arrays.copyOfRange(vertices1, 1000, 5000), Arrays.copyOfRange(vertices2, 1000, 5000), Arrays.copyOfRange(weights, 1000, 5000));
+        assertEquals(slice.edges(), buffered.edges());
+    }
+
+    @Test
+    public void parallelEdgeBatchesShouldBeCopiedLikeSingleEdges() throws Exception {
+        for (WeightType weightType : new WeightType[]{WeightType.DOUBLE, WeightType.FLOAT, WeightType.INT}) {
+            Random r = new Random(22);
+            int[] vertices1 = new int[3000], vertices2 = new int[3000];
+            double[] weights = new double[3000];
+            Graph expected = new Graph(300, 0, DuplicatePolicy.ALLOW_MULTI, weightType);
+            for (int i = 0; i < weights.length; i++) {
+                vertices1[i] = r.nextInt(300);
+                vertices2[i] = r.nextInt(300);
+                weights[i] = r.nextInt(1000);
+                expected.addEdge(vertices1[i], vertices2[i], weights[i]);
+            }
+
+            Graph graph = new Graph(300, 0, DuplicatePolicy.ALLOW_MULTI, weightType);
+            graph.amountOfComponents();
+            assertEquals(2900, graph.addEdges(Arrays.copyOf(vertices1, 2900), Arrays.copyOf(vertices2, 2900), Arrays.copyOf(weights, 2900)));
+            // A batch smaller than the graph updates the tree already computed
+            graph.getMinimumSpanningTree();
+            IntBuffer buffer1 = IntBuffer.wrap(vertices1).position(2900), buffer2 = IntBuffer.wrap(vertices2).position(2900);
+            assertEquals(100, graph.addEdges(buffer1, buffer2, DoubleBuffer.wrap(weights, 2900, 100)));
+
+            assertEquals(expected.edges(), graph.edges());
+            assertEquals(expected.totalWeight(), graph.totalWeight(), 0);
+            assertEquals(expected.amountOfLoops(), graph.amountOfLoops());
+            assertEquals(expected.amountOfComponents(), graph.amountOfComponents());
+            assertEquals(expected.getMinimumSpanningTree(), graph.getMinimumSpanningTree());
+        }
+    }
+
+    @Test
+    public void invalidArrayBatchesShouldNotAddAnyEdge() throws Exception {
+        Graph graph = new Graph(3);
+        try {
+            graph.addEdges(new int[]{0, 1}, new int[]{1, 2}, new double[]{1.0, -1.0});
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("weight(-1.0): Weight must not be negative", e.getMessage());
+        }
+        try {
+            graph.addEdges(IntBuffer.wrap(new int[]{0, 3}), IntBuffer.wrap(new int[]{1, 2}), DoubleBuffer.wrap(new double[]{1.0, 1.0}));
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("vertex(3): is out of range {0..2}", e.getMessage());
+        }
+        assertEquals(0, graph.amountOfEdges());
+    }
+
+    @Test
+    public void nanWeightsShouldBeRejected() throws Exception {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1.0);
+        graph.addEdge(1, 2, 2.0);
+        graph.getMinimumSpanningTree();
+        try {
+            graph.addEdge(0, 2, Double.NaN);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("weight(NaN): Weight must be a number", e.getMessage());
+        }
+        try {
+            graph.addEdges(new int[]{0, 0}, new int[]{2, 2}, new double[]{1.0, Double.NaN});
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("weight(NaN): Weight must be a number", e.getMessage());
+        }
+        try {
+            graph.updateWeight(1, 2, Double.NaN);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("weight(NaN): Weight must be a number", e.getMessage());
+        }
+
+        assertEquals(2, graph.amountOfEdges());
+        assertTrue(graph.removeEdge(1, 2));
+        assertEquals(Arrays.asList(new Edge(0, 1, 1.0)), graph.getMinimumSpanningTree());
+        assertEquals(2, graph.amountOfComponents());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void arrayBatchesShouldHaveTheSameLength() throws Exception {
+        new Graph(3).addEdges(new int[]{0, 1}, new int[]{1}, new double[]{1.0, 1.0});
+    }
+
+    @Test
+    public void keepFirstShouldIgnoreRepeatedEdges() throws Exception {
+        Graph graph = new Graph(3);
+        assertEquals(DuplicatePolicy.KEEP_FIRST, graph.duplicatePolicy());
+        assertTrue(graph.addEdge(0, 1, 2.0));
+        assertFalse(graph.addEdge(1, 0, 1.0));
+        assertEquals(Arrays.asList(new Edge(0, 1, 2.0)), graph.edges());
+    }
+
+    @Test
+    public void keepMinShouldKeepTheLightestRepeatedEdge() throws Exception {
+        Graph graph = new Graph(3, 0, DuplicatePolicy.KEEP_MIN);
+        assertTrue(graph.addEdge(0, 1, 2.0));
+        assertTrue(graph.addEdge(1, 2, 3.0));
+        assertEquals(Arrays.asList(new Edge(0, 1, 2.0), new Edge(1, 2, 3.0)), graph.getMinimumSpanningTree());
+
+        assertTrue(graph.addEdge(2, 1, 1.0));
+        assertFalse(graph.addEdge(1, 2, 1.5));
+        assertFalse(graph.addEdge(1, 2, 1.0));
+        assertEquals(2, graph.amountOfEdges());
+        assertEquals(Arrays.asList(new Edge(1, 2, 1.0), new Edge(0, 1, 2.0)), graph.getMinimumSpanningTree());
+        assertEquals(Arrays.asList(new Edge(1, 2, 1.0), new Edge(0, 1, 2.0)), graph.edges());
+    }
+
+    @Test
+    public void keepMinShouldMatchTheLightestOfEachPair() throws Exception {
+        Random r = new Random(17);
+        Graph graph = new Graph(200, 0, DuplicatePolicy.KEEP_MIN);
+        double[][] lightest = new double[200][200];
+        for (double[] row : lightest)
+            Arrays.fill(row, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < 20000; i++) {
+            int vertex1 = r.nextInt(200), vertex2 = r.nextInt(200);
+            double weight = r.nextDouble();
+            graph.addEdge(vertex1, vertex2, weight);
+            int low = Math.min(vertex1, vertex2), high = Math.max(vertex1, vertex2);
+            lightest[low][high] = Math.min(lightest[low][high], weight);
+            if (i % 1000 == 0)
+                assertEquals(Kruskal.minimumSpanningTree(graph), graph.getMinimumSpanningTree());
+        }
+
+        Graph expected = new Graph(200);
+        for (int low = 0; low < 200; low++)
+            for (int high = low; high < 200; high++)
+                if (lightest[low][high] != Double.POSITIVE_INFINITY)
+                    expected.addEdge(low, high, lightest[low][high]);
+        assertEquals(expected.edges(), graph.edges());
+        assertEquals(expected.getMinimumSpanningTree(), graph.getMinimumSpanningTree());
+    }
+
+    @Test
+    public void keepMinShouldFindRepeatedEdgesMovedByASort() throws Exception {
+        Graph graph = new Graph(4, 0, DuplicatePolicy.KEEP_MIN);
+        graph.addEdge(0, 1, 3.0);
+        graph.addEdge(1, 2, 2.0);
+        graph.addEdge(2, 3, 1.0);
+        assertEquals(Arrays.asList(new Edge(2, 3, 1.0), new Edge(1, 2, 2.0), new Edge(0, 1, 3.0)), graph.edges());
+
+        assertTrue(graph.addEdge(1, 0, 0.5));
+        assertFalse(graph.addEdge(3, 2, 1.5));
+        assertTrue(graph.updateWeight(1, 2, 0.25));
+        assertEquals(Arrays.asList(new Edge(1, 2, 0.25), new Edge(0, 1, 0.5), new Edge(2, 3, 1.0)), graph.edges());
+    }
+
+    @Test
+    public void allowMultiShouldKeepParallelEdges() throws Exception {
+        Graph graph = new Graph(3, 0, DuplicatePolicy.ALLOW_MULTI);
+        assertTrue(graph.addEdge(0, 1, 2.0));
+        assertTrue(graph.addEdge(1, 0, 1.0));
+        assertTrue(graph.addEdge(0, 1, 2.0));
+        assertTrue(graph.addEdge(1, 2, 4.0));
+        assertEquals(4, graph.amountOfEdges());
+        assertEquals(Arrays.asList(new Edge(0, 1, 1.0), new Edge(1, 2, 4.0)), graph.getMinimumSpanningTree());
+        assertEquals(Arrays.asList(new Edge(0, 1, 1.0), new Edge(1, 2, 4.0)), Prim.minimumSpanningTree(graph));
+    }
+
+    @Test
+    public void integralGraphsShouldHaveTheSameTreeAsDoubleGraphs() throws Exception {
+        Random r = new Random(33);
+        Graph doubles = new Graph(3000);
+        Graph ints = new Graph(3000, 0, DuplicatePolicy.KEEP_FIRST, WeightType.INT);
+        Graph shorts = new Graph(3000, 0, DuplicatePolicy.KEEP_FIRST, WeightType.SHORT);
+        for (int i = 0; i < 15000; i++) {
+            int vertex1 = r.nextInt(3000), vertex2 = r.nextInt(3000);
+            double weight = r.nextInt(1000);
+            doubles.addEdge(vertex1, vertex2, weight);
+            ints.addEdge(vertex1, vertex2, weight);
+            shorts.addEdge(vertex1, vertex2, weight);
+        }
+        assertEquals(WeightType.INT, ints.weightType());
+        assertEquals(doubles.getMinimumSpanningTree(), ints.getMinimumSpanningTree());
+        assertEquals(doubles.getMinimumSpanningTree(), shorts.getMinimumSpanningTree());
+        assertEquals(doubles.edges(), shorts.edges());
+    }
+
+    @Test
+    public void floatGraphsShouldRoundTheirWeights() throws Exception {
+        Graph graph = new Graph(2, 0, DuplicatePolicy.KEEP_MIN, WeightType.FLOAT);
+        graph.addEdge(0, 1, 0.1);
+        graph.addEdge(0, 1, 0.1 - 1e-12);
+        assertEquals(Arrays.asList(new Edge(0, 1, (float) 0.1)), graph.getMinimumSpanningTree());
+    }
+
+    @Test
+    public void integralGraphsShouldRejectWeightsTheyCanNotStore() throws Exception {
+        Graph graph = new Graph(3, 0, DuplicatePolicy.KEEP_FIRST, WeightType.SHORT);
+        for (double weight : new double[]{0.5, 65536}) {
+            try {
+                graph.addEdge(0, 1, weight);
+                fail();
+            } catch (IllegalArgumentException e) {
+                assertEquals("weight(" + weight + "): is not an integer in range {0..65535}", e.getMessage());
+            }
+        }
+        try {
+            graph.addEdges(new int[]{0, 1}, new int[]{1, 2}, new double[]{1, 1e10});
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(0, graph.amountOfEdges());
+        }
+    }
+
+    @Test
+    public void connectivityShouldFollowAddedEdges() throws Exception {
+        Graph graph = new Graph(4);
+        assertEquals(4, graph.amountOfComponents());
+        assertFalse(graph.isConnected());
+        graph.addEdge(0, 1, 1.0);
+        graph.addEdges(new int[]{2}, new int[]{3}, new double[]{1.0});
+        assertEquals(2, graph.amountOfComponents());
+        graph.addEdge(3, 1, 1.0);
+        assertTrue(graph.isConnected());
+        assertTrue(new Graph(1).isConnected());
+        assertFalse(new Graph(0).isConnected());
+    }
+
+    @Test
+    public void aggregatesShouldFollowAddedEdges() throws Exception {
+        Graph graph = new Graph(4, 0, DuplicatePolicy.KEEP_MIN);
+        assertTrue(Double.isNaN(graph.minWeight()));
+        assertTrue(Double.isNaN(graph.maxWeight()));
+        graph.addEdge(0, 1, 2.0);
+        graph.addEdge(1, 2, 8.0);
+        graph.addEdge(3, 3, 0.5);
+        graph.addEdges(new int[]{2, 0}, new int[]{3, 2}, new double[]{4.0, 1.0});
+        assertEquals(15.5, graph.totalWeight(), 0);
+        assertEquals(0.5, graph.minWeight(), 0);
+        assertEquals(8.0, graph.maxWeight(), 0);
+        assertEquals(1, graph.amountOfLoops());
+
+        graph.addEdge(2, 1, 3.0);
+        assertEquals(10.5, graph.totalWeight(), 0);
+        assertEquals(4.0, graph.maxWeight(), 0);
+        assertEquals("Graph { 4 vertices; 5 edges; total weight = 10.5 }", graph.toString());
+    }
+
+    @Test
+    public void treeWeightShouldBeCachedWithTheTree() throws Exception {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 2.0);
+        graph.addEdge(1, 2, 8.0);
+        graph.addEdge(0, 2, 1.0);
+        assertEquals(3.0, graph.minimumSpanningTreeWeight(), 0);
+        assertSame(graph.getMinimumSpanningForest(), graph.getMinimumSpanningForest());
+        assertEquals(2, graph.getMinimumSpanningForest().amountOfComponents());
+
+        graph.addEdge(2, 3, 0.5);
+        assertEquals(3.5, graph.minimumSpanningTreeWeight(), 0);
+        assertEquals(1, graph.getMinimumSpanningForest().amountOfComponents());
+        assertEquals(4, graph.getMinimumSpanningForest().amountOfEdges(0));
+
+        graph.addEdge(3, 0, 9.0);
+        assertEquals(5, graph.getMinimumSpanningForest().amountOfEdges(0));
+    }
+
+    @Test
+    public void removedAndUpdatedEdgesShouldKeepTheTreeOfKruskal() throws Exception {
+        Random r = new Random(25);
+        Graph graph = new Graph(100, 0, DuplicatePolicy.KEEP_MIN);
+        graph.getMinimumSpanningTree();
+        for (int i = 0; i < 6000; i++) {
+            int vertex1 = r.nextInt(100), vertex2 = r.nextInt(100);
+            int operation = r.nextInt(4);
+            if (operation == 0)
+                graph.removeEdge(vertex1, vertex2);
+            else if (operation == 1)
+                graph.updateWeight(vertex1, vertex2, r.nextInt(50));
+            else
+                graph.addEdge(vertex1, vertex2, r.nextInt(50));
+            if (i % 100 == 0)
+                assertEquals(Kruskal.minimumSpanningTree(graph), graph.getMinimumSpanningTree());
+        }
+
+        Graph expected = new Graph(100);
+        for (Edge edge : graph.edges())
+            expected.addEdge(edge.getLowVertex(), edge.getHighVertex(), edge.weight());
+        assertEquals(expected.getMinimumSpanningTree(), graph.getMinimumSpanningTree());
+        assertEquals(expected.amountOfComponents(), graph.amountOfComponents());
+    }
+
+    @Test
+    public void aggregatesShouldFollowRemovedAndUpdatedEdges() throws Exception {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 2.0);
+        graph.addEdge(1, 2, 8.0);
+        graph.addEdge(3, 3, 0.5);
+        graph.addEdge(2, 3, 4.0);
+
+        assertTrue(graph.removeEdge(3, 3));
+        assertFalse(graph.removeEdge(3, 3));
+        assertEquals(14.0, graph.totalWeight(), 0);
+        assertEquals(2.0, graph.minWeight(), 0);
+        assertEquals(0, graph.amountOfLoops());
+
+        assertTrue(graph.updateWeight(2, 1, 1.0));
+        assertFalse(graph.updateWeight(0, 3, 1.0));
+        assertEquals(7.0, graph.totalWeight(), 0);
+        assertEquals(1.0, graph.minWeight(), 0);
+        assertEquals(4.0, graph.maxWeight(), 0);
+
+        assertTrue(graph.removeEdge(1, 2));
+        assertEquals(2, graph.amountOfComponents());
+        assertEquals(Arrays.asList(new Edge(0, 1, 2.0), new Edge(2, 3, 4.0)), graph.getMinimumSpanningTree());
+    }
+
+    @Test
+    public void componentsShouldFollowRemovedEdges() throws Exception {
+        Random r = new Random(7);
+        Graph graph = new Graph(50);
+        for (int i = 0; i < 80; i++)
+            graph.addEdge(r.nextInt(50), r.nextInt(50), r.nextInt(10));
+        graph.getMinimumSpanningTree();
+        for (int i = 0; i < 2000; i++) {
+            int vertex1 = r.nextInt(50), vertex2 = r.nextInt(50);
+            if (r.nextBoolean())
+                graph.removeEdge(vertex1, vertex2);
+            else
+                graph.addEdge(vertex1, vertex2, r.nextInt(10));
+
+            DisjointSets expected = new DisjointSets(50);
+            for (Edge edge : graph.edges())
+                expected.union(edge.getLowVertex(), edge.getHighVertex());
+            assertEquals(expected.amountOfSets(), graph.amountOfComponents());
+        }
+    }
+
+    @Test
+    public void allowMultiShouldRemoveAndUpdateTheHeaviestParallelEdge() throws Exception {
+        Graph graph = new Graph(3, 0, DuplicatePolicy.ALLOW_MULTI);
+        graph.addEdge(0, 1, 3.0);
+        graph.addEdge(1, 0, 1.0);
+        graph.addEdge(0, 1, 2.0);
+        graph.addEdge(1, 2, 5.0);
+        assertEquals(Arrays.asList(new Edge(0, 1, 1.0), new Edge(1, 2, 5.0)), graph.getMinimumSpanningTree());
+
+        assertTrue(graph.removeEdge(1, 0));
+        assertEquals(Arrays.asList(new Edge(0, 1, 1.0), new Edge(0, 1, 2.0), new Edge(1, 2, 5.0)), graph.edges());
+        assertTrue(graph.updateWeight(0, 1, 0.5));
+        assertEquals(Arrays.asList(new Edge(0, 1, 0.5), new Edge(0, 1, 1.0), new Edge(1, 2, 5.0)), graph.edges());
+        assertEquals(Arrays.asList(new Edge(0, 1, 0.5), new Edge(1, 2, 5.0)), graph.getMinimumSpanningTree());
+
+        assertTrue(graph.removeEdge(0, 1));
+        assertTrue(graph.removeEdge(0, 1));
+        assertFalse(graph.removeEdge(0, 1));
+        assertEquals(Arrays.asList(new Edge(1, 2, 5.0)), graph.getMinimumSpanningTree());
+        assertEquals(5.0, graph.totalWeight(), 0);
+    }
+
+    @Test
+    public void allowMultiShouldKeepTheTreeOfKruskalWhileParallelEdgesChange() throws Exception {
+        Random r = new Random(25);
+        int vertices = 30;
+        Graph graph = new Graph(vertices, 0, DuplicatePolicy.ALLOW_MULTI);
+        Map<Long, List<Double>> expected = new HashMap<>();
+        for (int i = 0; i < 6000; i++) {
+            int vertex1 = r.nextInt(vertices), vertex2 = r.nextInt(vertices);
+            List<Double> parallel = expected.computeIfAbsent(EdgeSorter.verticesKey(Math.min(vertex1, vertex2), Math.max(vertex1, vertex2)), key -> new ArrayList<>());
+            int operation = r.nextInt(4);
+            if (operation == 0) {
+                assertEquals(!parallel.isEmpty(), graph.removeEdge(vertex1, vertex2));
+                if (!parallel.isEmpty())
+                    parallel.remove(Collections.max(parallel));
+            } else if (operation == 1) {
+                double weight = r.nextInt(50);
+                assertEquals(!parallel.isEmpty(), graph.updateWeight(vertex1, vertex2, weight));
+                if (!parallel.isEmpty())
+                    parallel.set(parallel.indexOf(Collections.max(parallel)), weight);
+            } else if (operation == 2) {
+                double weight = r.nextInt(50);
+                graph.addEdge(vertex1, vertex2, weight);
+                parallel.add(weight);
+            } else {
+                double weight = r.nextInt(50);
+                graph.addEdges(new int[]{vertex1, vertex2}, new int[]{vertex2, vertex1}, new double[]{weight, weight + 1});
+                parallel.add(weight);
+                parallel.add(weight + 1);
+            }
+
+            if (i % 100 == 0) {
+                assertEquals(Kruskal.minimumSpanningTree(graph), graph.getMinimumSpanningTree());
+                List<Edge> expectedEdges = new ArrayList<>();
+                for (Map.Entry<Long, List<Double>> pair : expected.entrySet())
+                    for (double weight : pair.getValue())
+                        expectedEdges.add(new Edge((int) (pair.getKey() >>> 32), (int) (long) pair.getKey(), weight));
+                Collections.sort(expectedEdges);
+                assertEquals(expectedEdges, graph.edges());
+            }
+        }
+    }
+}
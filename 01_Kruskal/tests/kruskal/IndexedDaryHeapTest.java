@@ -0,0 +1,63 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class IndexedDaryHeapTest {
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testInvalidArity() throws Exception {
+        new IndexedDaryHeap(10, 1);
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void testPollEmptyHeap() throws Exception {
+        new IndexedDaryHeap(10, 4).poll();
+    }
+
+    @Test
+    public void shouldOnlyDecreaseKeys() throws Exception {
+        IndexedDaryHeap heap = new IndexedDaryHeap(4, 2);
+        assertTrue(heap.offer(0, 5.0, 0));
+        assertTrue(heap.offer(1, 3.0, 0));
+        assertTrue(heap.offer(0, 1.0, 7));
+        assertFalse(heap.offer(0, 1.0, 9));
+        assertTrue(heap.offer(1, 1.0, 2));
+        assertEquals(2, heap.size());
+        assertTrue(heap.contains(0));
+        assertFalse(heap.contains(2));
+
+        assertEquals(1, heap.poll());
+        assertEquals(2, heap.tieBreak(1));
+        assertEquals(0, heap.poll());
+        assertEquals(1.0, heap.weight(0), 0.0);
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(0));
+    }
+
+    @Test
+    public void shouldPollInKeyOrder() throws Exception {
+        Random r = new Random(1234);
+        int size = 10000;
+        IndexedDaryHeap heap = new IndexedDaryHeap(size, 4);
+        double[] keys = new double[size];
+        for (int item = 0; item < size; item++) {
+            keys[item] = r.nextDouble();
+            heap.offer(item, keys[item], item);
+        }
+        for (int item = 0; item < size; item += 3) {
+            keys[item] /= 2;
+            heap.offer(item, keys[item], item);
+        }
+
+        double last = -1;
+        for (int polled = 0; polled < size; polled++) {
+            int item = heap.poll();
+            assertTrue(keys[item] >= last);
+            last = keys[item];
+        }
+    }
+}
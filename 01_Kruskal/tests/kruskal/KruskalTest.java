@@ -0,0 +1,209 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class KruskalTest {
+
+
+    @Test
+    public void should_return_an_empty_list_if_graph_has_1_vertex_or_is_empty() throws Exception {
+        Graph g = new Graph(1);
+        g.addEdge(0, 0, 0.0);
+
+        assertEquals(expectedList(), Kruskal.minimumSpanningTree(g));
+        assertEquals(expectedList(), Kruskal.minimumSpanningTree(new Graph(0)));
+    }
+
+    @Test
+    public void should_return_the_lower_vertices_if_edges_have_the_same_weight() throws Exception {
+        Graph g1 = new Graph(3);
+        g1.addEdge(0, 1, 0.5);
+        g1.addEdge(0, 2, 0.5);
+        g1.addEdge(1, 2, 0.5);
+
+        assertEquals(
+                expectedList(
+                        edge(0, 1, 0.5),
+                        edge(0, 2, 0.5)
+                ),
+                Kruskal.minimumSpanningTree(g1)
+        );
+
+        Graph g2 = new Graph(4);
+
+        g2.addEdge(0, 1, 1);
+        g2.addEdge(1, 2, 1);
+        g2.addEdge(2, 3, 1);
+        g2.addEdge(3, 0, 1);
+
+        assertEquals(
+                expectedList(
+                        edge(0, 1, 1),
+                        edge(0, 3, 1),
+                        edge(1, 2, 1)
+                ),
+                Kruskal.minimumSpanningTree(g2)
+        );
+    }
+
+    @Test
+    public void should_ignore_self_loop_edges() throws Exception {
+        Graph g = new Graph(3);
+        g.addEdge(0, 0, 0.0);
+        g.addEdge(0, 1, 0.5);
+        g.addEdge(1, 1, 0.5);
+        g.addEdge(0, 2, 0.5);
+        g.addEdge(1, 2, 0.0);
+        assertEquals(
+                expectedList(
+                        edge(1, 2, 0.0),
+                        edge(0, 1, 0.5)
+                ),
+                Kruskal.minimumSpanningTree(g)
+        );
+    }
+
+    @Test
+    public void should_return_all_the_edges_ordered_if_a_graph_is_already_MSP() throws Exception {
+        Graph g = new Graph(6);
+        g.addEdge(0, 1, 0.5);
+        g.addEdge(1, 2, 0.5);
+        g.addEdge(2, 3, 3.5);
+        g.addEdge(3, 5, 5.5);
+        g.addEdge(3, 4, 5.5);
+
+        assertEquals(
+                expectedList(
+                        edge(0, 1, 0.5),
+                        edge(1, 2, 0.5),
+                        edge(2, 3, 3.5),
+                        edge(3, 4, 5.5),
+                        edge(3, 5, 5.5)
+                ),
+                Kruskal.minimumSpanningTree(g)
+        );
+    }
+
+    @Test
+    public void lazy_mode_should_return_the_same_tree() throws Exception {
+        Graph g = new Graph(3);
+        g.addEdge(1, 2, 0.5);
+        g.addEdge(0, 2, 0.5);
+        g.addEdge(0, 1, 0.5);
+        assertEquals(expectedList(edge(0, 1, 0.5), edge(0, 2, 0.5)), Kruskal.lazyMinimumSpanningTree(g));
+        assertEquals(expectedList(), Kruskal.lazyMinimumSpanningTree(new Graph(0)));
+
+        for (int vertices = 1; vertices <= 4096; vertices *= 4) {
+            Graph lazy = new Graph(vertices, vertices * 8, new Random(vertices));
+            Graph sorted = new Graph(vertices, vertices * 8, new Random(vertices));
+            assertEquals(Kruskal.minimumSpanningTree(sorted), Kruskal.lazyMinimumSpanningTree(lazy));
+        }
+    }
+
+    @Test
+    public void lazy_mode_should_not_sort_the_graph() throws Exception {
+        Graph g = new Graph(1000, 20000, new Random(99));
+        Graph copy = new Graph(1000, 20000, new Random(99));
+        assertEquals(Kruskal.minimumSpanningTree(copy), Kruskal.lazyMinimumSpanningTree(g));
+        assertFalse(g.edgeList().isSorted());
+    }
+
+    @Test
+    public void iterator_should_return_the_tree_one_edge_at_a_time() throws Exception {
+        Graph g = new Graph(4);
+        g.addEdge(2, 3, 0.25);
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 2, 1);
+        g.addEdge(3, 0, 1);
+
+        Iterator<Edge> iterator = Kruskal.iterator(g);
+        assertTrue(iterator.hasNext());
+        assertEquals(edge(2, 3, 0.25), iterator.next());
+        assertEquals(edge(0, 1, 1), iterator.next());
+        assertTrue(iterator.hasNext());
+        assertEquals(edge(0, 3, 1), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertFalse(Kruskal.iterator(new Graph(0)).hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void iterator_should_not_go_past_the_last_edge() throws Exception {
+        Kruskal.iterator(new Graph(1)).next();
+    }
+
+    @Test
+    public void stream_should_be_lazy() throws Exception {
+        for (boolean sorted : new boolean[]{false, true}) {
+            Graph g = new Graph(5000, 40000, new Random(5));
+            if (sorted) g.edges();
+            List<Edge> expected = Kruskal.minimumSpanningTree(new Graph(5000, 40000, new Random(5)));
+
+            Kruskal.MinimumSpanningTreeIterator iterator = (Kruskal.MinimumSpanningTreeIterator) Kruskal.iterator(g);
+            assertEquals(0, iterator.takenEdges());
+            assertEquals(expected.subList(0, 10), Kruskal.stream(iterator).limit(10).collect(Collectors.toList()));
+            // Almost every light edge joins two components, so only a few more than 10 are taken
+            assertTrue(iterator.takenEdges() >= 10 && iterator.takenEdges() < 20);
+            assertEquals(sorted, g.edgeList().isSorted());
+
+            assertEquals(expected, Kruskal.stream(g).collect(Collectors.toList()));
+            assertEquals(sorted, g.edgeList().isSorted());
+        }
+    }
+
+    @Test
+    public void thresholdQueriesShouldOnlyUseLighterEdges() throws Exception {
+        Graph g = new Graph(4);
+        g.addEdge(0, 1, 1.0);
+        g.addEdge(1, 2, 2.0);
+        g.addEdge(0, 2, 3.0);
+
+        boolean[] connected = Kruskal.connectedUnderThreshold(g,
+                new int[]{0, 0, 0, 2, 3, 1},
+                new int[]{2, 2, 1, 0, 0, 1},
+                new double[]{2.0, 2.5, 1.5, Double.POSITIVE_INFINITY, 10, 0});
+        assertArrayEquals(new boolean[]{false, true, true, true, false, true}, connected);
+    }
+
+    @Test
+    public void thresholdQueriesShouldMatchTheBottleneckIndex() throws Exception {
+        Random r = new Random(77);
+        Graph g = new Graph(2000);
+        for (int i = 0; i < 5000; i++)
+            g.addEdge(r.nextInt(2000), r.nextInt(2000), r.nextInt(100));
+        int[] vertices1 = new int[20000], vertices2 = new int[20000];
+        double[] thresholds = new double[20000];
+        for (int query = 0; query < thresholds.length; query++) {
+            vertices1[query] = r.nextInt(2000);
+            vertices2[query] = r.nextInt(2000);
+            thresholds[query] = r.nextInt(101);
+        }
+        assertArrayEquals(g.getMinimumSpanningTreeIndex().connectedUnderThreshold(vertices1, vertices2, thresholds),
+                Kruskal.connectedUnderThreshold(g, vertices1, vertices2, thresholds));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void thresholdQueriesShouldBeBetweenVerticesOfTheGraph() throws Exception {
+        Kruskal.connectedUnderThreshold(new Graph(2), new int[]{0}, new int[]{2}, new double[]{1.0});
+    }
+
+    private Edge edge(int vertex1, int vertex2, double weight) {
+        return new Edge(vertex1, vertex2, weight);
+    }
+
+    private List<Edge> expectedList(Edge... edges) {
+        return Arrays.asList(edges);
+    }
+}
@@ -0,0 +1,87 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LinkCutTreeTest {
+
+    @Test
+    public void shouldLinkAndCut() throws Exception {
+        LinkCutTree tree = new LinkCutTree(5);
+        tree.link(0, 1);
+        tree.link(2, 1);
+        tree.link(3, 4);
+        assertTrue(tree.connected(0, 2));
+        assertFalse(tree.connected(0, 3));
+        assertFalse(tree.cut(0, 2));
+        assertTrue(tree.cut(1, 2));
+        assertFalse(tree.connected(0, 2));
+        assertTrue(tree.connected(0, 1));
+        tree.link(4, 2);
+        assertTrue(tree.connected(3, 2));
+    }
+
+    @Test
+    public void pathMaxShouldFindTheHeaviestNodeOnThePath() throws Exception {
+        Random r = new Random(1234);
+        int size = 300;
+        LinkCutTree tree = new LinkCutTree(size);
+        List<List<Integer>> adjacency = new ArrayList<>();
+        double[] weights = new double[size];
+        for (int node = 0; node < size; node++) {
+            adjacency.add(new ArrayList<>());
+            weights[node] = r.nextInt(50);
+            tree.setKey(node, weights[node], node);
+        }
+        for (int node = 1; node < size; node++) {
+            int other = r.nextInt(node);
+            tree.link(node, other);
+            adjacency.get(node).add(other);
+            adjacency.get(other).add(node);
+        }
+
+        for (int query = 0; query < 2000; query++) {
+            int node1 = r.nextInt(size), node2 = r.nextInt(size);
+            int expected = Integer.MIN_VALUE;
+            for (int node : path(adjacency, node1, node2))
+                if (expected == Integer.MIN_VALUE || weights[node] > weights[expected]
+                        || (weights[node] == weights[expected] && node > expected))
+                    expected = node;
+            assertEquals(expected, tree.pathMax(node1, node2));
+
+            if (query % 10 == 0) {
+                int node = r.nextInt(size);
+                weights[node] = r.nextInt(50);
+                tree.setKey(node, weights[node], node);
+            }
+        }
+    }
+
+    private List<Integer> path(List<List<Integer>> adjacency, int from, int to) {
+        int[] previous = new int[adjacency.size()];
+        Arrays.fill(previous, -1);
+        previous[from] = from;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int next : adjacency.get(node))
+                if (previous[next] == -1) {
+                    previous[next] = node;
+                    queue.add(next);
+                }
+        }
+        List<Integer> path = new ArrayList<>();
+        for (int node = to; node != from; node = previous[node])
+            path.add(node);
+        path.add(from);
+        return path;
+    }
+}
@@ -0,0 +1,83 @@
+package kruskal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LongIntHashMapTest {
+
+    @Test
+    public void shouldNotAddTheSameKeyTwice() throws Exception {
+        LongIntHashMap map = new LongIntHashMap();
+        assertEquals(LongIntHashMap.NO_VALUE, map.putIfAbsent(42L, 3));
+        assertEquals(3, map.putIfAbsent(42L, 5));
+        assertTrue(map.containsKey(42L));
+        assertFalse(map.containsKey(7L));
+        assertEquals(3, map.get(42L));
+        assertEquals(LongIntHashMap.NO_VALUE, map.get(7L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void putShouldReplaceTheValue() throws Exception {
+        LongIntHashMap map = new LongIntHashMap();
+        map.put(42L, 3);
+        map.put(42L, 8);
+        assertEquals(8, map.get(42L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void shouldKeepAllEntriesWhenGrowing() throws Exception {
+        LongIntHashMap map = new LongIntHashMap(0);
+        for (int key = 0; key < 100000; key++)
+            assertEquals(LongIntHashMap.NO_VALUE, map.putIfAbsent((long) key << 32 | key * 7L, key));
+        assertEquals(100000, map.size());
+        for (int key = 0; key < 100000; key++)
+            assertEquals(key, map.get((long) key << 32 | key * 7L));
+        assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    public void removedKeysShouldNotHideTheOthers() throws Exception {
+        LongIntHashMap map = new LongIntHashMap(0);
+        for (int key = 0; key < 20000; key++)
+            map.put(key * 31L, key);
+        for (int key = 0; key < 20000; key += 2)
+            assertEquals(key, map.remove(key * 31L));
+        assertEquals(LongIntHashMap.NO_VALUE, map.remove(0));
+        assertEquals(10000, map.size());
+        for (int key = 0; key < 20000; key++)
+            assertEquals(key % 2 == 0 ? LongIntHashMap.NO_VALUE : key, map.get(key * 31L));
+    }
+
+    @Test
+    public void shouldFailInsteadOfGrowingPastItsMaximumCapacity() throws Exception {
+        LongIntHashMap map = new LongIntHashMap(0, 16);
+        for (int key = 0; key < 12; key++)
+            map.put(key, key);
+        try {
+            map.putIfAbsent(12L, 12);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("size(12): the map can not hold more keys {0..12}", e.getMessage());
+        }
+        assertEquals(12, map.size());
+        assertFalse(map.containsKey(12L));
+        map.put(3L, 30);
+        assertEquals(30, map.get(3L));
+    }
+
+    @Test
+    public void replacedValuesShouldBeLookedUpInTheGivenArray() throws Exception {
+        LongIntHashMap map = new LongIntHashMap();
+        for (int value = 0; value < 100; value++)
+            map.put(value * 7919L, value);
+        int[] newValues = new int[100];
+        for (int value = 0; value < 100; value++)
+            newValues[value] = 99 - value;
+        map.replaceValues(newValues);
+        for (int value = 0; value < 100; value++)
+            assertEquals(99 - value, map.get(value * 7919L));
+    }
+}
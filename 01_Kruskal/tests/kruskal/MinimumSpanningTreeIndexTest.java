@@ -0,0 +1,100 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class MinimumSpanningTreeIndexTest {
+
+    @Test
+    public void bottlenecksShouldBeTheHeaviestEdgeOfThePath() throws Exception {
+        // 0 -1- 1 -4- 2 -2- 3, 1 -3- 4, and 5 alone
+        Graph g = new Graph(6);
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 2, 4);
+        g.addEdge(2, 3, 2);
+        g.addEdge(1, 4, 3);
+        g.addEdge(0, 3, 9);
+
+        MinimumSpanningTreeIndex index = g.getMinimumSpanningTreeIndex();
+        assertEquals(4, index.bottleneck(0, 3), 0);
+        assertEquals(new Edge(1, 2, 4), index.bottleneckEdge(3, 0));
+        assertEquals(3, index.bottleneck(4, 0), 0);
+        assertEquals(2, index.bottleneck(2, 3), 0);
+        assertEquals(Double.NEGATIVE_INFINITY, index.bottleneck(2, 2), 0);
+        assertEquals(Double.POSITIVE_INFINITY, index.bottleneck(2, 5), 0);
+        assertNull(index.bottleneckEdge(2, 5));
+
+        assertTrue(index.connectedUnderThreshold(0, 4, 3.5));
+        assertFalse(index.connectedUnderThreshold(0, 4, 3));
+        assertFalse(index.connectedUnderThreshold(0, 5, Double.MAX_VALUE));
+        assertSame(index, g.getMinimumSpanningTreeIndex());
+    }
+
+    @Test
+    public void bottlenecksShouldMatchAWalkOnTheTree() throws Exception {
+        Graph g = new Graph(3000);
+        Random r = new Random(99);
+        for (int i = 0; i < 6000; i++)
+            g.addEdge(r.nextInt(3000), r.nextInt(3000), r.nextInt(50));
+        List<Edge> tree = g.getMinimumSpanningTree();
+        MinimumSpanningTreeIndex index = new MinimumSpanningTreeIndex(3000, tree);
+
+        int[] vertices1 = new int[2000], vertices2 = new int[2000];
+        double[] thresholds = new double[2000];
+        for (int query = 0; query < 2000; query++) {
+            vertices1[query] = r.nextInt(3000);
+            vertices2[query] = r.nextInt(3000);
+            thresholds[query] = r.nextInt(50);
+        }
+        double[] bottlenecks = index.bottlenecks(vertices1, vertices2);
+        boolean[] connected = index.connectedUnderThreshold(vertices1, vertices2, thresholds);
+        for (int query = 0; query < 2000; query++) {
+            double expected = walk(tree, 3000, vertices1[query], vertices2[query]);
+            assertEquals(expected, bottlenecks[query], 0);
+            assertEquals(expected, index.bottleneck(vertices1[query], vertices2[query]), 0);
+            assertEquals(expected < thresholds[query], connected[query]);
+        }
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void verticesShouldBeInRange() throws Exception {
+        new MinimumSpanningTreeIndex(3, new ArrayList<>()).bottleneck(0, 3);
+    }
+
+    /**
+     * The heaviest edge on the tree path, found by a depth first search from vertex1.
+     */
+    private double walk(List<Edge> tree, int amountOfVertex, int vertex1, int vertex2) {
+        if (vertex1 == vertex2) return Double.NEGATIVE_INFINITY;
+        List<List<Edge>> adjacency = new ArrayList<>();
+        for (int vertex = 0; vertex < amountOfVertex; vertex++)
+            adjacency.add(new ArrayList<>());
+        for (Edge edge : tree) {
+            adjacency.get(edge.getLowVertex()).add(edge);
+            adjacency.get(edge.getHighVertex()).add(edge);
+        }
+        double[] heaviest = new double[amountOfVertex];
+        boolean[] visited = new boolean[amountOfVertex];
+        int[] stack = new int[amountOfVertex];
+        int top = 0;
+        stack[top++] = vertex1;
+        visited[vertex1] = true;
+        heaviest[vertex1] = Double.NEGATIVE_INFINITY;
+        while (top > 0) {
+            int vertex = stack[--top];
+            for (Edge edge : adjacency.get(vertex)) {
+                int next = edge.getLowVertex() == vertex ? edge.getHighVertex() : edge.getLowVertex();
+                if (visited[next]) continue;
+                visited[next] = true;
+                heaviest[next] = Math.max(heaviest[vertex], edge.weight());
+                stack[top++] = next;
+            }
+        }
+        return visited[vertex2] ? heaviest[vertex2] : Double.POSITIVE_INFINITY;
+    }
+}
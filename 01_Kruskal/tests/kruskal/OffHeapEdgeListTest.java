@@ -0,0 +1,99 @@
+package kruskal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class OffHeapEdgeListTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldStoreEdgesAcrossChunks() throws Exception {
+        try (OffHeapEdgeList edges = new OffHeapEdgeList(null, 16)) {
+            for (int vertex = 0; vertex < 100; vertex++)
+                assertEquals(vertex, edges.add(vertex + 1, vertex, vertex / 2.0));
+            assertEquals(100, edges.amountOfEdges());
+            assertTrue(edges.isSorted());
+            assertEquals(new Edge(37, 38, 18.5), edges.edge(37));
+            assertEquals(37, edges.lowVertex(37));
+            assertEquals(38, edges.highVertex(37));
+            edges.add(0, 5, 1.0);
+            assertFalse(edges.isSorted());
+        }
+    }
+
+    @Test
+    public void shouldSortLikeEdgeList() throws Exception {
+        assertSortedLikeEdgeList(new OffHeapEdgeList(null, 1 << 10));
+        assertSortedLikeEdgeList(new OffHeapEdgeList(folder.getRoot().toPath(), 1 << 10));
+        try (Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void shouldSortOnEveryDigitOfTheKey() throws Exception {
+        Random r = new Random(19);
+        try (OffHeapEdgeList edges = new OffHeapEdgeList(null, 1 << 12)) {
+            EdgeList expected = new EdgeList();
+            for (int i = 0; i < 10000; i++) {
+                int vertex1 = r.nextInt(Integer.MAX_VALUE), vertex2 = i % 7 == 0 ? vertex1 : r.nextInt(Integer.MAX_VALUE);
+                double weight = i % 3 == 0 ? r.nextInt(4) : r.nextDouble() * 1e9;
+                edges.add(vertex1, vertex2, weight);
+                expected.add(vertex1, vertex2, weight);
+            }
+            edges.sort();
+            expected.sort();
+            for (int position = 0; position < expected.size(); position++)
+                assertEquals(expected.edge(position), edges.edge(position));
+        }
+    }
+
+    @Test
+    public void kruskalShouldFindTheSameTreeAsOnTheHeap() throws Exception {
+        Graph graph = new Graph(3000, 20000, new Random(3));
+        try (OffHeapEdgeList edges = new OffHeapEdgeList(null, 1 << 12)) {
+            EdgeList onHeap = graph.edgeList();
+            for (int position = 0; position < onHeap.size(); position++)
+                edges.add(onHeap.lowVertex(position), onHeap.highVertex(position), onHeap.weight(position));
+            assertEquals(Kruskal.minimumSpanningTree(graph), Kruskal.minimumSpanningTree(edges, graph.amountOfVertex()));
+            assertEquals(Kruskal.minimumSpanningTree(graph), Kruskal.minimumSpanningTree(graph.edgeList(), graph.amountOfVertex()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void chunkSizeShouldBeAPowerOfTwo() throws Exception {
+        new OffHeapEdgeList(null, 1000);
+    }
+
+    private void assertSortedLikeEdgeList(OffHeapEdgeList edges) throws Exception {
+        Random r = new Random(1234);
+        EdgeList expected = new EdgeList();
+        for (int i = 0; i < 10000; i++) {
+            int vertex1 = r.nextInt(500), vertex2 = r.nextInt(500);
+            double weight = r.nextInt(100) / 8.0;
+            edges.add(vertex1, vertex2, weight);
+            expected.add(vertex1, vertex2, weight);
+        }
+        edges.sort();
+        expected.sort();
+        assertTrue(edges.isSorted());
+        List<Edge> sorted = new ArrayList<>();
+        for (long position = 0; position < edges.amountOfEdges(); position++)
+            sorted.add(edges.edge(position));
+        assertEquals(expected.toList(), sorted);
+        edges.close();
+        assertEquals(0, edges.amountOfEdges());
+    }
+}
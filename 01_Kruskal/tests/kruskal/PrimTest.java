@@ -0,0 +1,47 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrimTest {
+
+    @Test
+    public void should_handle_trivial_graphs() throws Exception {
+        Graph g = new Graph(1);
+        g.addEdge(0, 0, 0.0);
+        assertEquals(Arrays.asList(), Prim.minimumSpanningTree(g));
+        assertEquals(Arrays.asList(), Prim.minimumSpanningTree(new Graph(0)));
+    }
+
+    @Test
+    public void should_break_ties_like_kruskal() throws Exception {
+        Graph g = new Graph(4);
+        g.addEdge(0, 1, 1);
+        g.addEdge(1, 2, 1);
+        g.addEdge(2, 3, 1);
+        g.addEdge(3, 0, 1);
+        g.addEdge(2, 2, 0);
+        assertEquals(Kruskal.minimumSpanningTree(g), Prim.minimumSpanningTree(g));
+    }
+
+    @Test
+    public void should_return_the_same_tree_as_kruskal() throws Exception {
+        for (int multiplier = 1; multiplier <= 64; multiplier *= 4) {
+            Graph g = new Graph(5000, 5000 * multiplier, new Random(multiplier));
+            assertEquals(Kruskal.lazyMinimumSpanningTree(g), Prim.minimumSpanningTree(g));
+        }
+    }
+
+    @Test
+    public void should_return_a_forest_for_disconnected_graphs() throws Exception {
+        Graph g = new Graph(3000);
+        Random r = new Random(7);
+        for (int i = 0; i < 10000; i++)
+            g.addEdge(r.nextInt(1500) * 2, r.nextInt(1500) * 2, r.nextInt(10));
+        assertEquals(Kruskal.minimumSpanningTree(g), Prim.minimumSpanningTree(g));
+    }
+}
@@ -0,0 +1,70 @@
+package kruskal;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SpanningForestTest {
+
+    @Test
+    public void disconnectedGraphsShouldHaveOneTreePerComponent() throws Exception {
+        Graph g = new Graph(6);
+        g.addEdge(0, 2, 1.0);
+        g.addEdge(2, 4, 2.0);
+        g.addEdge(0, 4, 5.0);
+        g.addEdge(1, 5, 0.5);
+
+        SpanningForest forest = Kruskal.minimumSpanningForest(g);
+        assertEquals(3, forest.amountOfComponents());
+        assertFalse(forest.isSpanningTree());
+        assertArrayEquals(new int[]{0, 1, 0, 2, 0, 1}, forest.components());
+        assertEquals(3.0, forest.weight(0), 0);
+        assertEquals(0.5, forest.weight(1), 0);
+        assertEquals(0.0, forest.weight(2), 0);
+        assertEquals(3.5, forest.totalWeight(), 0);
+        assertEquals(Arrays.asList(new Edge(1, 5, 0.5), new Edge(0, 2, 1.0), new Edge(2, 4, 2.0)), forest.edges());
+        assertEquals(2, forest.component(3));
+        assertEquals(3, forest.amountOfEdges(0));
+        assertEquals(1, forest.amountOfEdges(1));
+        assertEquals(0, forest.amountOfEdges(2));
+    }
+
+    @Test
+    public void graphForestsShouldMatchKruskal() throws Exception {
+        Graph g = new Graph(2000);
+        Random r = new Random(8);
+        for (int i = 0; i < 1500; i++)
+            g.addEdge(r.nextInt(2000), r.nextInt(2000), r.nextDouble());
+
+        SpanningForest forest = Kruskal.minimumSpanningForest(g);
+        SpanningForest graphForest = g.getMinimumSpanningForest();
+        assertEquals(forest.edges(), graphForest.edges());
+        assertArrayEquals(forest.components(), graphForest.components());
+        assertEquals(forest.totalWeight(), graphForest.totalWeight(), 1e-9);
+        assertEquals(g.amountOfComponents(), forest.amountOfComponents());
+        assertEquals(g.amountOfVertex() - forest.amountOfComponents(), forest.edges().size());
+        int amountOfEdges = 0;
+        for (int component = 0; component < forest.amountOfComponents(); component++) {
+            assertEquals(forest.amountOfEdges(component), graphForest.amountOfEdges(component));
+            amountOfEdges += forest.amountOfEdges(component);
+        }
+        assertEquals(g.amountOfEdges(), amountOfEdges);
+    }
+
+    @Test
+    public void connectedGraphsShouldBeASpanningTree() throws Exception {
+        Graph g = new Graph(500, 2000, new Random(9));
+        SpanningForest forest = Kruskal.minimumSpanningForest(g);
+        assertTrue(forest.isSpanningTree());
+        assertEquals(Kruskal.minimumSpanningTree(g), forest.edges());
+        assertEquals(forest.totalWeight(), forest.weight(0), 0);
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void componentsShouldBeInRange() throws Exception {
+        Kruskal.minimumSpanningForest(new Graph(3)).weight(3);
+    }
+}
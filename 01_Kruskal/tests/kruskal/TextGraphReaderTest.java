@@ -0,0 +1,129 @@
+package kruskal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TextGraphReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadDimacsFiles() throws Exception {
+        Graph graph = TextGraphReader.read(file(
+                "c a small graph\n" +
+                "p sp 4 5\n" +
+                "a 1 2 7\n" +
+                "a 2 1 7\n" +
+                "a 2 3 1.5\n" +
+                "c arcs can be repeated backwards\n" +
+                "a 3 4 2.25\n" +
+                "a 4 1 1e1\n"), TextGraphReader.Format.DIMACS);
+
+        assertEquals(4, graph.amountOfVertex());
+        assertEquals(Arrays.asList(
+                new Edge(1, 2, 1.5),
+                new Edge(2, 3, 2.25),
+                new Edge(0, 1, 7),
+                new Edge(0, 3, 10)), graph.edges());
+    }
+
+    @Test
+    public void shouldReadSnapFiles() throws Exception {
+        Graph graph = TextGraphReader.read(file(
+                "# Directed graph: example.txt\r\n" +
+                "# FromNodeId\tToNodeId\r\n" +
+                "0\t1\t0.5\r\n" +
+                "\r\n" +
+                "1 2\r\n" +
+                "% another comment\n" +
+                "  5   2   0.125  \n" +
+                "2 1 4"), TextGraphReader.Format.SNAP);
+
+        assertEquals(6, graph.amountOfVertex());
+        assertEquals(Arrays.asList(
+                new Edge(2, 5, 0.125),
+                new Edge(0, 1, 0.5),
+                new Edge(1, 2, 1.0)), graph.edges());
+    }
+
+    @Test
+    public void weightsShouldBeParsedExactly() throws Exception {
+        Random r = new Random(1234);
+        StringBuilder text = new StringBuilder();
+        double[] expected = new double[2000];
+        for (int i = 0; i < expected.length; i++) {
+            String weight = i % 3 == 0 ? Double.toString(r.nextDouble())
+                    : i % 3 == 1 ? String.format("%.6f", r.nextDouble() * 1000) : Long.toString(r.nextInt(1 << 30));
+            expected[i] = Double.parseDouble(weight);
+            text.append(i).append(' ').append(i + 1).append(' ').append(weight).append('\n');
+        }
+        Graph graph = TextGraphReader.read(file(text.toString()), TextGraphReader.Format.SNAP);
+        for (Edge edge : graph.edges())
+            assertEquals(expected[edge.getLowVertex()], edge.weight(), 0.0);
+    }
+
+    @Test
+    public void chunksShouldNotLoseOrRepeatLines() throws Exception {
+        Random r = new Random(42);
+        int vertices = 20000;
+        Graph expected = new Graph(vertices);
+        StringBuilder text = new StringBuilder("p sp " + vertices + " 0\n");
+        for (int i = 0; i < 200000; i++) {
+            int vertex1 = r.nextInt(vertices), vertex2 = r.nextInt(vertices);
+            double weight = r.nextInt(1000) / 8.0;
+            expected.addEdge(vertex1, vertex2, weight);
+            text.append("a ").append(vertex1 + 1).append(' ').append(vertex2 + 1).append(' ').append(weight).append('\n');
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Graph graph = TextGraphReader.read(file(text.toString()), TextGraphReader.Format.DIMACS, pool);
+            assertEquals(expected.amountOfEdges(), graph.amountOfEdges());
+            assertEquals(expected.edges(), graph.edges());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void dimacsFilesNeedAProblemLine() throws Exception {
+        TextGraphReader.read(file("a 1 2 3\n"), TextGraphReader.Format.DIMACS);
+    }
+
+    @Test(expected = IOException.class)
+    public void dimacsVerticesShouldBeInRange() throws Exception {
+        TextGraphReader.read(file("p sp 2 1\na 1 3 1\n"), TextGraphReader.Format.DIMACS);
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectMalformedLines() throws Exception {
+        TextGraphReader.read(file("0 1 2\n0 x 2\n"), TextGraphReader.Format.SNAP);
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectNegativeWeights() throws Exception {
+        TextGraphReader.read(file("0 1 -2\n"), TextGraphReader.Format.SNAP);
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectTrailingContent() throws Exception {
+        TextGraphReader.read(file("0 1 2 3\n"), TextGraphReader.Format.SNAP);
+    }
+
+    private Path file(String content) throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, content.getBytes(StandardCharsets.US_ASCII));
+        return path;
+    }
+}